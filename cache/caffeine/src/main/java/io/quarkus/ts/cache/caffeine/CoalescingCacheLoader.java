@@ -0,0 +1,104 @@
+package io.quarkus.ts.cache.caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Loads Uni and Multi values through the Caffeine cache, so concurrent misses on the same key share a single backend
+ * invocation. Failures are never stored in the cache, what happens with them depends on the configured
+ * {@link FailurePolicy}.
+ */
+@ApplicationScoped
+public class CoalescingCacheLoader {
+
+    public static final String CACHE_NAME = "api-coalescing-cache";
+
+    private static final String STREAM_KEY_PREFIX = "stream:";
+
+    public enum FailurePolicy {
+        /**
+         * The backend is re-subscribed with back-off, waiters only see the failure once all the attempts failed.
+         */
+        RETRY,
+        /**
+         * The failure is remembered for a while and returned to every caller without invoking the backend again.
+         */
+        NEGATIVE_CACHE
+    }
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @ConfigProperty(name = "app.cache.coalescing.failure-policy", defaultValue = "retry")
+    FailurePolicy failurePolicy;
+
+    @ConfigProperty(name = "app.cache.coalescing.retry.max-retries", defaultValue = "3")
+    int maxRetries;
+
+    @ConfigProperty(name = "app.cache.coalescing.retry.backoff", defaultValue = "100ms")
+    Duration retryBackoff;
+
+    @ConfigProperty(name = "app.cache.coalescing.negative-ttl", defaultValue = "5s")
+    Duration negativeTtl;
+
+    @ConfigProperty(name = "app.cache.coalescing.negative-max-size", defaultValue = "1000")
+    long negativeMaxSize;
+
+    /**
+     * Bounded and expiring, so many distinct failing keys can't grow it, whether they are read again or not.
+     */
+    private Map<String, Throwable> failures;
+
+    @PostConstruct
+    void init() {
+        failures = Caffeine.newBuilder()
+                .expireAfterWrite(negativeTtl)
+                .maximumSize(negativeMaxSize)
+                .<String, Throwable> build()
+                .asMap();
+    }
+
+    public <V> Uni<V> get(String key, Function<String, Uni<V>> loader) {
+        return Uni.createFrom().deferred(() -> {
+            Throwable failure = failures.get(key);
+            if (failure != null) {
+                return Uni.createFrom().failure(failure);
+            }
+
+            return cache.getAsync(key, k -> load(k, loader));
+        });
+    }
+
+    public <V> Multi<V> stream(String key, Function<String, Multi<V>> loader) {
+        return get(STREAM_KEY_PREFIX + key, ignored -> loader.apply(key).collect().asList())
+                .onItem().transformToMulti(items -> Multi.createFrom().iterable(items));
+    }
+
+    public Uni<Void> invalidate(String key) {
+        failures.remove(key);
+        failures.remove(STREAM_KEY_PREFIX + key);
+        return cache.invalidate(key).chain(() -> cache.invalidate(STREAM_KEY_PREFIX + key));
+    }
+
+    private <V> Uni<V> load(String key, Function<String, Uni<V>> loader) {
+        Uni<V> value = Uni.createFrom().deferred(() -> loader.apply(key));
+        return switch (failurePolicy) {
+            case RETRY -> value.onFailure().retry().withBackOff(retryBackoff).atMost(maxRetries);
+            case NEGATIVE_CACHE -> value.onFailure()
+                    .invoke(failure -> failures.put(key, failure));
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkus.ts.cache.caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+@NonBlocking
+@Path("/api/coalescing")
+public class CoalescingWithCacheResource {
+
+    private static final Duration BACKEND_LATENCY = Duration.ofMillis(500);
+    private static final int STREAM_SIZE = 3;
+
+    private final Map<String, AtomicInteger> backendInvocations = new ConcurrentHashMap<>();
+
+    @Inject
+    CoalescingCacheLoader loader;
+
+    @GET
+    @Path("/{key}")
+    @Produces(MediaType.TEXT_PLAIN)
+    public Uni<String> getValue(@PathParam("key") String key) {
+        return loader.get(key, this::slowBackend);
+    }
+
+    @GET
+    @Path("/{key}/failing/{failures}")
+    @Produces(MediaType.TEXT_PLAIN)
+    public Uni<String> getValueWithFailures(@PathParam("key") String key, @PathParam("failures") int failures) {
+        return loader.get(key, k -> slowBackend(k).onItem().transformToUni(value -> {
+            if (invocations(k) <= failures) {
+                return Uni.createFrom().failure(new RuntimeException("Simulated failure for key: " + k));
+            }
+
+            return Uni.createFrom().item(value);
+        }));
+    }
+
+    @GET
+    @Path("/{key}/stream")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Multi<String> getValues(@PathParam("key") String key) {
+        return loader.stream(key, k -> slowBackend(k).onItem()
+                .transformToMulti(value -> Multi.createFrom().range(0, STREAM_SIZE).map(i -> value + "-" + i)));
+    }
+
+    @GET
+    @Path("/{key}/invocations")
+    @Produces(MediaType.TEXT_PLAIN)
+    public int getInvocations(@PathParam("key") String key) {
+        return invocations(key);
+    }
+
+    @POST
+    @Path("/{key}/invalidate-cache")
+    public Uni<Void> invalidate(@PathParam("key") String key) {
+        return loader.invalidate(key);
+    }
+
+    private Uni<String> slowBackend(String key) {
+        return Uni.createFrom()
+                .item(() -> key + ": " + backendInvocations.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet())
+                .onItem().delayIt().by(BACKEND_LATENCY);
+    }
+
+    private int invocations(String key) {
+        AtomicInteger counter = backendInvocations.get(key);
+        return counter == null ? 0 : counter.get();
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkus.ts.cache.caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Caffeine cache with refresh-ahead and a weight based maximum size. The Quarkus cache configuration only supports an
+ * entry count limit and expiration, so this cache is built with Caffeine directly.
+ * <p>
+ * Once `refresh-after-write` elapsed, the next read still gets the stale value while the entry is reloaded in the
+ * background. Entries are weighed by their content length, so `maximum-weight` is an approximate limit in bytes.
+ */
+@ApplicationScoped
+public class RefreshAheadCache {
+
+    @ConfigProperty(name = "app.cache.refresh-ahead.refresh-after-write", defaultValue = "2s")
+    Duration refreshAfterWrite;
+
+    @ConfigProperty(name = "app.cache.refresh-ahead.maximum-weight", defaultValue = "1048576")
+    long maximumWeight;
+
+    @ConfigProperty(name = "app.cache.refresh-ahead.backend-latency", defaultValue = "1s")
+    Duration backendLatency;
+
+    private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    private AsyncLoadingCache<SizedKey, Payload> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .executor(Infrastructure.getDefaultWorkerPool())
+                .refreshAfterWrite(refreshAfterWrite)
+                .maximumWeight(maximumWeight)
+                .weigher((SizedKey key, Payload payload) -> key.name().length() + payload.content().length())
+                .recordStats()
+                .buildAsync(this::slowBackend);
+    }
+
+    public Uni<Payload> get(String name, int size) {
+        return Uni.createFrom().completionStage(() -> cache.get(new SizedKey(name, size)));
+    }
+
+    public int loads(String name) {
+        AtomicInteger counter = loads.get(name);
+        return counter == null ? 0 : counter.get();
+    }
+
+    public Stats stats() {
+        cache.synchronous().cleanUp();
+        Policy.Eviction<SizedKey, Payload> eviction = cache.synchronous().policy().eviction().orElseThrow();
+        return new Stats(cache.synchronous().estimatedSize(), eviction.weightedSize().orElse(0), eviction.getMaximum(),
+                cache.synchronous().stats().evictionCount());
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private Payload slowBackend(SizedKey key) throws InterruptedException {
+        int version = loads.computeIfAbsent(key.name(), k -> new AtomicInteger()).incrementAndGet();
+        Thread.sleep(backendLatency.toMillis());
+        return new Payload(version, "x".repeat(key.size()));
+    }
+
+    private record SizedKey(String name, int size) {
+    }
+
+    public record Payload(int version, String content) {
+    }
+
+    public record Stats(long entries, long weightedSize, long maximumWeight, long evictions) {
+    }
+}
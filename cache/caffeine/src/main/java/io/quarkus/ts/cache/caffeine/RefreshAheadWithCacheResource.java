@@ -0,0 +1,55 @@
+package io.quarkus.ts.cache.caffeine;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+
+@NonBlocking
+@Path("/api/refresh-ahead")
+public class RefreshAheadWithCacheResource {
+
+    @Inject
+    RefreshAheadCache cache;
+
+    @GET
+    @Path("/{key}/size/{size}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<JsonObject> getValue(@PathParam("key") String key, @PathParam("size") int size) {
+        return cache.get(key, size).map(payload -> new JsonObject()
+                .put("version", payload.version())
+                .put("length", payload.content().length()));
+    }
+
+    @GET
+    @Path("/{key}/loads")
+    @Produces(MediaType.TEXT_PLAIN)
+    public int getLoads(@PathParam("key") String key) {
+        return cache.loads(key);
+    }
+
+    @GET
+    @Path("/stats")
+    @Produces(MediaType.APPLICATION_JSON)
+    public JsonObject getStats() {
+        RefreshAheadCache.Stats stats = cache.stats();
+        return new JsonObject()
+                .put("entries", stats.entries())
+                .put("weightedSize", stats.weightedSize())
+                .put("maximumWeight", stats.maximumWeight())
+                .put("evictions", stats.evictions());
+    }
+
+    @POST
+    @Path("/invalidate-cache-all")
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,136 @@
+package io.quarkus.ts.cache.caffeine.cache.caffeine;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.restassured.response.Response;
+
+@QuarkusScenario
+public class CoalescingCacheIT {
+
+    static final String COALESCING_API_PATH = "/api/coalescing/";
+
+    private static final int PARALLEL_REQUESTS = 1_000;
+    private static final int CLIENT_THREADS = 100;
+    private static final int TIMEOUT_SECONDS = 60;
+
+    /**
+     * Concurrent misses on a cold key must collapse into a single backend invocation.
+     */
+    @Test
+    public void shouldInvokeBackendOnceForConcurrentMissesOnSameKey() throws Exception {
+        String key = coldKey();
+
+        List<Response> responses = fireInParallel(PARALLEL_REQUESTS, COALESCING_API_PATH + key);
+
+        assertAllSucceededWithSameBody(responses);
+        assertEquals(1, invocations(key), "Concurrent misses were not coalesced into one backend invocation");
+    }
+
+    @Test
+    public void shouldInvokeBackendOnceForConcurrentMissesOnSameStreamKey() throws Exception {
+        String key = coldKey();
+
+        List<Response> responses = fireInParallel(PARALLEL_REQUESTS, COALESCING_API_PATH + key + "/stream");
+
+        assertAllSucceededWithSameBody(responses);
+        assertEquals(3, responses.get(0).jsonPath().getList("$").size());
+        assertEquals(1, invocations(key), "Concurrent stream misses were not coalesced into one backend invocation");
+    }
+
+    /**
+     * With the default `retry` failure policy, waiters never see failures that a later attempt recovered from.
+     */
+    @Test
+    public void shouldRetryFailuresForAllWaiters() throws Exception {
+        String key = coldKey();
+
+        List<Response> responses = fireInParallel(PARALLEL_REQUESTS, COALESCING_API_PATH + key + "/failing/2");
+
+        assertAllSucceededWithSameBody(responses);
+        assertEquals(3, invocations(key), "Expected two failed attempts and one successful retry");
+    }
+
+    @Test
+    public void shouldNotCacheFailuresWhenRetriesAreExhausted() {
+        String key = coldKey();
+        String path = COALESCING_API_PATH + key + "/failing/100";
+
+        given().when().get(path).then().statusCode(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        int invocationsAfterFirstCall = invocations(key);
+        assertEquals(4, invocationsAfterFirstCall, "Expected the first attempt plus three retries");
+
+        given().when().get(path).then().statusCode(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        assertTrue(invocations(key) > invocationsAfterFirstCall, "The failure has been cached and should not be");
+    }
+
+    @Test
+    public void shouldLoadAgainAfterInvalidation() {
+        String key = coldKey();
+        String value = given().when().get(COALESCING_API_PATH + key).then().statusCode(HttpStatus.SC_OK).extract().asString();
+        assertEquals(value, given().when().get(COALESCING_API_PATH + key).then().extract().asString());
+
+        given().when().post(COALESCING_API_PATH + key + "/invalidate-cache").then().statusCode(HttpStatus.SC_NO_CONTENT);
+
+        given().when().get(COALESCING_API_PATH + key).then().statusCode(HttpStatus.SC_OK);
+        assertEquals(2, invocations(key));
+    }
+
+    static String coldKey() {
+        return "cold-" + UUID.randomUUID();
+    }
+
+    static int invocations(String key) {
+        return Integer.parseInt(given()
+                .when().get(COALESCING_API_PATH + key + "/invocations")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().asString());
+    }
+
+    static List<Response> fireInParallel(int requests, String path) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENT_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Response>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return given().when().get(path).then().extract().response();
+                }));
+            }
+
+            start.countDown();
+            List<Response> responses = new ArrayList<>(requests);
+            for (Future<Response> future : futures) {
+                responses.add(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertAllSucceededWithSameBody(List<Response> responses) {
+        String expected = responses.get(0).asString();
+        for (Response response : responses) {
+            assertEquals(HttpStatus.SC_OK, response.statusCode());
+            assertEquals(expected, response.asString(), "Waiters received different values for the same key");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkus.ts.cache.caffeine.cache.caffeine;
+
+import static io.quarkus.ts.cache.caffeine.cache.caffeine.CoalescingCacheIT.COALESCING_API_PATH;
+import static io.quarkus.ts.cache.caffeine.cache.caffeine.CoalescingCacheIT.coldKey;
+import static io.quarkus.ts.cache.caffeine.cache.caffeine.CoalescingCacheIT.fireInParallel;
+import static io.quarkus.ts.cache.caffeine.cache.caffeine.CoalescingCacheIT.invocations;
+import static io.restassured.RestAssured.given;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.services.QuarkusApplication;
+import io.restassured.response.Response;
+
+@QuarkusScenario
+public class NegativeCachingCoalescingCacheIT {
+
+    private static final int PARALLEL_REQUESTS = 100;
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(2);
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("app.cache.coalescing.failure-policy", "negative-cache")
+            .withProperty("app.cache.coalescing.negative-ttl", NEGATIVE_TTL.toSeconds() + "s");
+
+    /**
+     * A failure is computed once, shared with concurrent waiters and then served from the negative cache until its
+     * TTL expires, without invoking the backend again.
+     */
+    @Test
+    public void shouldServeFailuresFromNegativeCacheUntilTtlExpires() throws Exception {
+        String key = coldKey();
+        String path = COALESCING_API_PATH + key + "/failing/1";
+
+        List<Response> responses = fireInParallel(PARALLEL_REQUESTS, path);
+        responses.forEach(response -> assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, response.statusCode()));
+        assertEquals(1, invocations(key), "The failure was fanned out to more than one backend invocation");
+
+        given().when().get(path).then().statusCode(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        assertEquals(1, invocations(key), "The failure was not served from the negative cache");
+
+        await().atMost(NEGATIVE_TTL.multipliedBy(5))
+                .untilAsserted(() -> given().when().get(path).then().statusCode(HttpStatus.SC_OK));
+        assertEquals(2, invocations(key), "Backend must be invoked again only once the negative TTL expired");
+    }
+}
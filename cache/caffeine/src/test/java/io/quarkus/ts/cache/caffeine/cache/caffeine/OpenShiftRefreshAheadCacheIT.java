@@ -0,0 +1,7 @@
+package io.quarkus.ts.cache.caffeine.cache.caffeine;
+
+import io.quarkus.test.scenarios.OpenShiftScenario;
+
+@OpenShiftScenario
+public class OpenShiftRefreshAheadCacheIT extends RefreshAheadCacheIT {
+}
@@ -0,0 +1,91 @@
+package io.quarkus.ts.cache.caffeine.cache.caffeine;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.restassured.path.json.JsonPath;
+
+@QuarkusScenario
+public class RefreshAheadCacheIT {
+
+    private static final String REFRESH_AHEAD_API_PATH = "/api/refresh-ahead/";
+
+    // keep in sync with application.properties
+    private static final Duration REFRESH_AFTER_WRITE = Duration.ofSeconds(2);
+    private static final Duration BACKEND_LATENCY = Duration.ofSeconds(1);
+    private static final long MAXIMUM_WEIGHT = 1_048_576;
+
+    private static final int SMALL_VALUE = 100;
+    private static final int LARGE_VALUE = 100_000;
+    private static final int LARGE_VALUES = 15;
+
+    /**
+     * Reads of a hot key keep being served from the cache while the key reloads in the background, so the p99 latency
+     * stays well below the backend latency.
+     */
+    @Test
+    public void shouldKeepLatencyFlatWhileKeyRefreshes() {
+        String key = "hot-" + UUID.randomUUID();
+        String path = REFRESH_AHEAD_API_PATH + key + "/size/" + SMALL_VALUE;
+        // the first read is a miss and pays the backend latency
+        given().when().get(path).then().statusCode(HttpStatus.SC_OK).body("version", is(1));
+
+        List<Long> latencies = new ArrayList<>();
+        Set<Integer> versions = new HashSet<>();
+        long end = System.nanoTime() + REFRESH_AFTER_WRITE.multipliedBy(3).toNanos();
+        while (System.nanoTime() < end) {
+            long start = System.nanoTime();
+            JsonPath body = given().when().get(path).then().statusCode(HttpStatus.SC_OK).extract().jsonPath();
+            latencies.add(System.nanoTime() - start);
+            versions.add(body.getInt("version"));
+        }
+
+        Collections.sort(latencies);
+        Duration p99 = Duration.ofNanos(latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1));
+        assertTrue(versions.size() > 1, "The key was never refreshed, versions seen: " + versions);
+        assertTrue(loads(key) > 1, "The backend was never invoked to refresh the key");
+        assertTrue(p99.compareTo(BACKEND_LATENCY.dividedBy(2)) < 0,
+                "p99 latency " + p99.toMillis() + " ms shows that reads waited for the refresh");
+    }
+
+    /**
+     * The maximum size is expressed as a weight in bytes, not as an entry count.
+     */
+    @Test
+    public void shouldEvictByWeight() {
+        given().when().post(REFRESH_AHEAD_API_PATH + "invalidate-cache-all").then().statusCode(HttpStatus.SC_NO_CONTENT);
+
+        IntStream.range(0, LARGE_VALUES).parallel()
+                .forEach(i -> given().when().get(REFRESH_AHEAD_API_PATH + "large-" + i + "/size/" + LARGE_VALUE)
+                        .then().statusCode(HttpStatus.SC_OK));
+
+        JsonPath stats = given().when().get(REFRESH_AHEAD_API_PATH + "stats")
+                .then().statusCode(HttpStatus.SC_OK)
+                .extract().jsonPath();
+        assertEquals(MAXIMUM_WEIGHT, stats.getLong("maximumWeight"), "Unexpected maximum weight");
+        assertTrue(stats.getLong("weightedSize") <= MAXIMUM_WEIGHT, "Weighted size is over the configured maximum");
+        assertTrue(stats.getLong("evictions") > 0, "No entry was evicted by weight");
+        assertTrue(stats.getLong("entries") < LARGE_VALUES, "Entries were not evicted by weight");
+    }
+
+    private static int loads(String key) {
+        return Integer.parseInt(given().when().get(REFRESH_AHEAD_API_PATH + key + "/loads")
+                .then().statusCode(HttpStatus.SC_OK)
+                .extract().asString());
+    }
+}
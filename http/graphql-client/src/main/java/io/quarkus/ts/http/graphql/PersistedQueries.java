@@ -0,0 +1,27 @@
+package io.quarkus.ts.http.graphql;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Shared by the server and the client side of automatic persisted queries. It must not depend on graphql-java,
+ * because the client app runs without the server extension.
+ */
+public final class PersistedQueries {
+
+    public static final String NOT_FOUND = "PersistedQueryNotFound";
+
+    private PersistedQueries() {
+    }
+
+    public static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.quarkus.ts.http.graphql;
+
+import static io.quarkus.ts.http.graphql.PersistedQueries.NOT_FOUND;
+import static io.quarkus.ts.http.graphql.PersistedQueries.sha256;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import graphql.ExecutionInput;
+import graphql.GraphQL;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+/**
+ * Automatic persisted queries (https://www.apollographql.com/docs/apollo-server/performance/apq) on top of a bounded
+ * cache of parsed and validated documents, keyed by the SHA-256 of the query text.
+ * <p>
+ * A request with `extensions.persistedQuery.sha256Hash` and an empty query is served from the cache, or answered with
+ * `PersistedQueryNotFound` so the client can retry with the full text. Plain requests use the same cache, so repeated
+ * queries are not parsed and validated again either.
+ */
+@ApplicationScoped
+public class PersistedQueryCache implements PreparsedDocumentProvider {
+
+    static final String HASH_MISMATCH = "provided sha does not match query";
+
+    private final Map<String, PreparsedDocumentEntry> documents;
+
+    @Inject
+    public PersistedQueryCache(
+            @ConfigProperty(name = "app.graphql.persisted-queries.max-size", defaultValue = "500") int maxSize) {
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Requires `quarkus.smallrye-graphql.events.enabled`.
+     */
+    void register(@Observes GraphQL.Builder builder) {
+        builder.preparsedDocumentProvider(this);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        String query = executionInput.getQuery();
+        String hash = persistedQueryHash(executionInput);
+        if (hash == null) {
+            return CompletableFuture.completedFuture(getOrParse(sha256(query), executionInput, parseAndValidateFunction));
+        }
+        if (query == null || query.isBlank()) {
+            PreparsedDocumentEntry cached = get(hash);
+            return CompletableFuture.completedFuture(cached != null ? cached : error(NOT_FOUND, "PERSISTED_QUERY_NOT_FOUND"));
+        }
+        if (!hash.equalsIgnoreCase(sha256(query))) {
+            return CompletableFuture.completedFuture(error(HASH_MISMATCH, "PERSISTED_QUERY_HASH_MISMATCH"));
+        }
+        return CompletableFuture.completedFuture(getOrParse(hash, executionInput, parseAndValidateFunction));
+    }
+
+    private PreparsedDocumentEntry getOrParse(String hash, ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        PreparsedDocumentEntry cached = get(hash);
+        if (cached != null) {
+            return cached;
+        }
+        // parsed outside of the lock, two concurrent misses just parse the same document twice
+        PreparsedDocumentEntry parsed = parseAndValidateFunction.apply(executionInput);
+        if (!parsed.hasErrors()) {
+            synchronized (documents) {
+                documents.put(hash.toLowerCase(), parsed);
+            }
+        }
+        return parsed;
+    }
+
+    private PreparsedDocumentEntry get(String hash) {
+        synchronized (documents) {
+            return documents.get(hash.toLowerCase());
+        }
+    }
+
+    private static String persistedQueryHash(ExecutionInput executionInput) {
+        Map<String, Object> extensions = executionInput.getExtensions();
+        if (extensions != null && extensions.get("persistedQuery") instanceof Map<?, ?> persistedQuery
+                && persistedQuery.get("sha256Hash") instanceof String hash) {
+            return hash;
+        }
+        return null;
+    }
+
+    private static PreparsedDocumentEntry error(String message, String code) {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .message(message)
+                .extensions(Map.of("code", code))
+                .build());
+    }
+}
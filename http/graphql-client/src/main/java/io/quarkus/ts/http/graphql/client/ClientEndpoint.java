@@ -5,6 +5,8 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
@@ -12,20 +14,59 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
+
 @Path("/client")
 @Produces(MediaType.TEXT_PLAIN)
 public class ClientEndpoint {
 
+    private static final OffsetDateTime DATE_OF_WRITING = OffsetDateTime.of(
+            LocalDate.of(2025, Month.MARCH, 13),
+            LocalTime.of(11, 47, 13),
+            ZoneOffset.ofHours(1));
+    private static final String DATE_MUTATION = "mutation date($date: DateTime) { date(date: $date) }";
+    // a text of its own, so that no other endpoint registers it on the server before the first persisted request
+    private static final String PERSISTED_DATE_MUTATION = "mutation persistedDate($date: DateTime) { date(date: $date) }";
+
     @Inject
     GraphQLClient client;
 
+    // the qualifier shares its simple name with the typed client interface of this package
+    @Inject
+    @io.smallrye.graphql.client.GraphQLClient(PersistedQueryClient.CLIENT)
+    DynamicGraphQLClient dynamicClient;
+
+    @Inject
+    PersistedQueryClient persistedClient;
+
     @GET
     @Path("/date")
     public String date() {
-        OffsetDateTime dateOfWriting = OffsetDateTime.of(
-                LocalDate.of(2025, Month.MARCH, 13),
-                LocalTime.of(11, 47, 13),
-                ZoneOffset.ofHours(1));
-        return client.processDate(dateOfWriting);
+        return client.processDate(DATE_OF_WRITING);
+    }
+
+    @GET
+    @Path("/date/dynamic")
+    public String dynamicDate() throws ExecutionException, InterruptedException {
+        return dynamicClient.executeSync(DATE_MUTATION, dateVariables())
+                .getData()
+                .getString("date");
+    }
+
+    @GET
+    @Path("/date/persisted")
+    public String persistedDate() {
+        return persistedClient.execute(PERSISTED_DATE_MUTATION, dateVariables())
+                .getString("date");
+    }
+
+    @GET
+    @Path("/persisted-stats")
+    public String persistedStats() {
+        return persistedClient.stats();
+    }
+
+    private static Map<String, Object> dateVariables() {
+        return Map.of("date", DATE_OF_WRITING.toString());
     }
 }
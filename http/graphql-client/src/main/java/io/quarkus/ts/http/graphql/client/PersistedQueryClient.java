@@ -0,0 +1,141 @@
+package io.quarkus.ts.http.graphql.client;
+
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.ts.http.graphql.PersistedQueries;
+import io.smallrye.graphql.client.GraphQLClient;
+import io.smallrye.graphql.client.Response;
+import io.smallrye.graphql.client.dynamic.api.DynamicGraphQLClient;
+import io.smallrye.graphql.client.impl.GraphQLClientConfiguration;
+import io.smallrye.graphql.client.impl.GraphQLClientsConfiguration;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * Client side of automatic persisted queries: only the SHA-256 of the query is sent, and the full text follows only
+ * when the server does not know the hash yet.
+ * <p>
+ * SmallRye GraphQL clients can not attach request extensions, so the hash-only request goes over the Vert.x web client,
+ * to the URL and with the headers of the `main` named client. The full text fallback is a plain request of the `main`
+ * dynamic client, which registers the query on the server under the same hash.
+ */
+@ApplicationScoped
+public class PersistedQueryClient {
+
+    static final String CLIENT = "main";
+
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    private final AtomicLong hashOnlyRequests = new AtomicLong();
+    private final AtomicLong fullTextRequests = new AtomicLong();
+
+    @Inject
+    @GraphQLClient(CLIENT)
+    DynamicGraphQLClient dynamicClient;
+
+    @Inject
+    Vertx vertx;
+
+    @ConfigProperty(name = "app.persisted-query-client.connect-timeout", defaultValue = "5s")
+    Duration connectTimeout;
+
+    @ConfigProperty(name = "app.persisted-query-client.request-timeout", defaultValue = "10s")
+    Duration requestTimeout;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    void init() {
+        webClient = WebClient.create(vertx, new WebClientOptions()
+                .setConnectTimeout((int) connectTimeout.toMillis()));
+    }
+
+    @PreDestroy
+    void close() {
+        webClient.close();
+    }
+
+    public JsonObject execute(String query, Map<String, Object> variables) {
+        String hash = hashes.computeIfAbsent(query, PersistedQueries::sha256);
+        hashOnlyRequests.incrementAndGet();
+        JsonObject response = postHashOnly(hash, variables);
+        if (!isNotFound(response)) {
+            return response.getJsonObject("data");
+        }
+
+        fullTextRequests.incrementAndGet();
+        try {
+            Response fullText = dynamicClient.executeSync(query, variables);
+            return fullText.getData();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String stats() {
+        return "hashOnly=" + hashOnlyRequests.get() + ", fullText=" + fullTextRequests.get();
+    }
+
+    private JsonObject postHashOnly(String hash, Map<String, Object> variables) {
+        GraphQLClientConfiguration config = GraphQLClientsConfiguration.getInstance().getClient(CLIENT);
+        HttpRequest<Buffer> request = webClient.postAbs(config.getUrl())
+                // a hung server must not block the calling thread forever
+                .timeout(requestTimeout.toMillis())
+                .putHeader("Content-Type", "application/json");
+        if (config.getHeaders() != null) {
+            config.getHeaders().forEach(request::putHeader);
+        }
+        JsonObject body = Json.createObjectBuilder()
+                .add("query", "")
+                .add("variables", Json.createObjectBuilder(variables))
+                .add("extensions", Json.createObjectBuilder()
+                        .add("persistedQuery", Json.createObjectBuilder()
+                                .add("version", 1)
+                                .add("sha256Hash", hash)))
+                .build();
+        try {
+            HttpResponse<Buffer> response = request.sendBuffer(Buffer.buffer(body.toString()))
+                    .toCompletionStage().toCompletableFuture()
+                    .get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            try (JsonReader reader = Json.createReader(new StringReader(response.bodyAsString()))) {
+                return reader.readObject();
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isNotFound(JsonObject response) {
+        JsonArray errors = response.getJsonArray("errors");
+        return errors != null && errors.stream()
+                .map(JsonObject.class::cast)
+                .anyMatch(error -> PersistedQueries.NOT_FOUND.equals(error.getString("message", null)));
+    }
+}
@@ -13,6 +13,7 @@ import io.quarkus.test.services.Dependency;
 import io.quarkus.test.services.QuarkusApplication;
 import io.quarkus.ts.http.graphql.client.ClientEndpoint;
 import io.quarkus.ts.http.graphql.client.GraphQLClient;
+import io.quarkus.ts.http.graphql.client.PersistedQueryClient;
 import io.restassured.response.Response;
 
 @QuarkusScenario
@@ -24,6 +25,8 @@ import io.restassured.response.Response;
 public class SeparateDependenciesIT {
     @QuarkusApplication(classes = {
             DateEndpoint.class,
+            PersistedQueryCache.class,
+            PersistedQueries.class,
     }, dependencies = {
             @Dependency(artifactId = "quarkus-smallrye-graphql")
     })
@@ -31,6 +34,8 @@ public class SeparateDependenciesIT {
     @QuarkusApplication(classes = {
             GraphQLClient.class,
             ClientEndpoint.class,
+            PersistedQueryClient.class,
+            PersistedQueries.class,
     })
     static final RestService client = new RestService()
             .withProperty("quarkus.smallrye-graphql-client.main.url",
@@ -43,4 +48,22 @@ public class SeparateDependenciesIT {
         assertEquals(200, response.statusCode());
         assertEquals("2025-03-13T11:47:13+01:00", response.body().asString());
     }
+
+    @Test
+    public void dynamicClient() {
+        Response response = client.given().basePath("/client/date/dynamic").get();
+        assertEquals(200, response.statusCode());
+        assertEquals("2025-03-13T11:47:13+01:00", response.body().asString());
+    }
+
+    @Test
+    public void persistedQuery() {
+        for (int i = 0; i < 3; i++) {
+            Response response = client.given().basePath("/client/date/persisted").get();
+            assertEquals(200, response.statusCode());
+            assertEquals("2025-03-13T11:47:13+01:00", response.body().asString());
+        }
+        // the full text was only needed once, to register the query on the server
+        assertEquals("hashOnly=3, fullText=1", client.given().basePath("/client/persisted-stats").get().body().asString());
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.ts.http.graphql;
 
+import org.eclipse.microprofile.graphql.Ignore;
+
 import io.smallrye.graphql.api.AdaptToScalar;
 import io.smallrye.graphql.api.Scalar;
 
@@ -23,6 +25,10 @@ public class Person {
         this.friend = friend;
     }
 
+    /**
+     * Only a reference, the GraphQL field is resolved in batches by {@link PersonsReactiveEndpoint}.
+     */
+    @Ignore
     public Person getFriend() {
         return friend;
     }
@@ -0,0 +1,96 @@
+package io.quarkus.ts.http.graphql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Stands for the store behind the GraphQL API. A {@link Person} only references its friend, which is loaded from
+ * here, and every call is counted as a backend round trip.
+ */
+@ApplicationScoped
+public class PersonDirectory {
+
+    private static final String CITIZEN_PREFIX = "citizen-";
+
+    private final Map<String, Person> persons = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private volatile List<Person> citizens = List.of();
+    private List<Person> philosophers;
+
+    /**
+     * Philosophers are created once here, so that every endpoint lists the same instances that `friend` resolves to.
+     */
+    @PostConstruct
+    void createPhilosophers() {
+        final Person plato = new Person("Plato");
+        final Person aristotle = new Person("Aristotle");
+        final Person anaxagoras = new Person("Anaxagoras");
+        plato.setFriend(aristotle);
+        plato.setIdol(anaxagoras);
+        aristotle.setFriend(plato);
+        aristotle.setIdol(anaxagoras);
+        philosophers = List.of(plato, aristotle, anaxagoras);
+        saveAll(philosophers);
+    }
+
+    /**
+     * @return Plato, Aristotle and Anaxagoras, in this order
+     */
+    public List<Person> philosophers() {
+        return philosophers;
+    }
+
+    public void saveAll(Collection<Person> newPersons) {
+        for (Person person : newPersons) {
+            persons.put(person.getName(), person);
+        }
+    }
+
+    public Map<String, Person> findByNames(Collection<String> names) {
+        calls.incrementAndGet();
+        Map<String, Person> found = new HashMap<>();
+        for (String name : names) {
+            Person person = persons.get(name);
+            if (person != null) {
+                found.put(name, person);
+            }
+        }
+        return found;
+    }
+
+    public List<Person> citizens() {
+        calls.incrementAndGet();
+        return citizens;
+    }
+
+    /**
+     * Replaces citizens with a generated ring, where everybody is friend of the next citizen and idolizes the one
+     * halfway around.
+     */
+    public int populate(int size) {
+        List<Person> generated = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            generated.add(new Person(CITIZEN_PREFIX + i));
+        }
+        for (int i = 0; i < size; i++) {
+            generated.get(i).setFriend(generated.get((i + 1) % size));
+            generated.get(i).setIdol(generated.get((i + size / 2) % size));
+        }
+        persons.keySet().removeIf(name -> name.startsWith(CITIZEN_PREFIX));
+        saveAll(generated);
+        citizens = List.copyOf(generated);
+        return size;
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.ts.http.graphql;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Per-request loader for the {@link PersonDirectory}. Every batch is a single directory call and persons already
+ * loaded during the request are not requested again.
+ */
+@RequestScoped
+public class PersonLoader {
+
+    @Inject
+    PersonDirectory directory;
+
+    private final Map<String, Person> loaded = new HashMap<>();
+
+    /**
+     * @return persons in the same order as the given references, null references and unknown persons are null
+     */
+    public synchronized List<Person> load(List<Person> references) {
+        List<String> missing = references.stream()
+                .filter(Objects::nonNull)
+                .map(Person::getName)
+                .filter(name -> !loaded.containsKey(name))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            loaded.putAll(directory.findByNames(missing));
+        }
+        return references.stream()
+                .map(reference -> reference == null ? null : loaded.get(reference.getName()))
+                .toList();
+    }
+}
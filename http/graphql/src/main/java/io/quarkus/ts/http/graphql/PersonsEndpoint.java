@@ -33,9 +33,27 @@ public class PersonsEndpoint extends PersonsEndpointBase {
     public Person createPhilosopher(@Name("name") String name) {
         Person philosopher = new Person(name);
         philosophers.add(philosopher);
+        directory.saveAll(List.of(philosopher));
         return philosopher;
     }
 
+    @Query("citizens")
+    @Description("Get generated citizens, see the populate mutation")
+    public List<Person> getCitizens() {
+        return directory.citizens();
+    }
+
+    @Mutation("populate")
+    public int populate(@Name("size") int size) {
+        return directory.populate(size);
+    }
+
+    @Query("backend_calls")
+    @Description("Number of calls made to the person directory so far")
+    public long getBackendCalls() {
+        return directory.calls();
+    }
+
     @Query("map")
     public Map<PhilosophyEra, Person> getPhilosophersMap() {
         return philosophersMap;
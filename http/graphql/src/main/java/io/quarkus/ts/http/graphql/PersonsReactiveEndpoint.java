@@ -1,10 +1,14 @@
 package io.quarkus.ts.http.graphql;
 
+import java.util.List;
+
 import org.eclipse.microprofile.graphql.DefaultValue;
+import org.eclipse.microprofile.graphql.Description;
 import org.eclipse.microprofile.graphql.GraphQLApi;
 import org.eclipse.microprofile.graphql.Mutation;
 import org.eclipse.microprofile.graphql.Name;
 import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
 
 import io.smallrye.graphql.api.Context;
 import io.smallrye.mutiny.Multi;
@@ -35,10 +39,25 @@ public class PersonsReactiveEndpoint extends PersonsEndpointBase {
         return Uni.createFrom().item(context.getPath());
     }
 
+    /**
+     * Resolves `friend` of all persons on the same level at once, instead of one directory call per person.
+     */
+    @Name("friend")
+    public Uni<List<Person>> getFriends(@Source List<Person> persons) {
+        return Uni.createFrom().item(() -> loader.load(persons.stream().map(Person::getFriend).toList()));
+    }
+
+    @Query("citizens_reactive")
+    @Description("Get generated citizens, see the populate mutation")
+    public Uni<List<Person>> getCitizensReactively() {
+        return Uni.createFrom().item(() -> directory.citizens());
+    }
+
     @Mutation("create_reactive")
     public Uni<Person> createPhilosopherReactively(@Name("name") String name) {
         Person philosopher = new Person(name);
         philosophers.add(philosopher);
+        directory.saveAll(List.of(philosopher));
         return Uni.createFrom().item(philosopher);
     }
 }
@@ -1,15 +1,21 @@
 package io.quarkus.ts.http.graphql;
 
 import static io.quarkus.ts.http.graphql.Utils.createMutation;
+import static io.quarkus.ts.http.graphql.Utils.createPersistedQuery;
 import static io.quarkus.ts.http.graphql.Utils.createQuery;
 import static io.quarkus.ts.http.graphql.Utils.sendGetQuery;
 import static io.quarkus.ts.http.graphql.Utils.sendQuery;
+import static io.quarkus.ts.http.graphql.Utils.sha256;
 import static io.restassured.RestAssured.given;
 
+import jakarta.json.Json;
+
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import io.quarkus.test.scenarios.QuarkusScenario;
 import io.restassured.path.json.JsonPath;
@@ -18,6 +24,9 @@ import io.restassured.response.Response;
 @QuarkusScenario
 public class GraphQLIT {
 
+    private static final int CITIZENS = 1_000;
+    private static final int DEPTH = 3;
+
     @Test
     public void recursive() {
         final String query = createQuery("philosophers{name,friend{name,friend{name}}}");
@@ -142,4 +151,65 @@ public class GraphQLIT {
         final JsonPath json = response.jsonPath();
         Assertions.assertEquals("42", json.getString("errors[0].extensions.code"));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "citizens", "citizens_reactive" })
+    public void batchedResolution(String citizens) {
+        final Response populate = sendQuery(createMutation("populate(size:" + CITIZENS + ")"));
+        Assertions.assertEquals(CITIZENS, populate.jsonPath().getInt("data.populate"));
+
+        final long callsBefore = backendCalls();
+        final String query = createQuery(citizens + "{name,idol,friend{name,idol,friend{name,idol,friend{name,idol}}}}");
+        final JsonPath json = sendQuery(query).jsonPath();
+        final long calls = backendCalls() - callsBefore;
+        final String root = "data." + citizens;
+
+        Assertions.assertEquals(CITIZENS, json.getList(root).size());
+        Assertions.assertEquals("citizen-0", json.getString(root + "[0].name"));
+        Assertions.assertEquals("citizen-500", json.getString(root + "[0].idol"));
+        Assertions.assertEquals("citizen-3", json.getString(root + "[0].friend.friend.friend.name"));
+        Assertions.assertEquals("citizen-503", json.getString(root + "[0].friend.friend.friend.idol"));
+        Assertions.assertEquals("citizen-2", json.getString(root + "[999].friend.friend.friend.name"));
+
+        // listing + at most one `friend` call per level, no matter how many persons are there.
+        // `idol` is adapted to a scalar from the reference and never reaches the directory
+        final long maxCalls = 1 + DEPTH + 1;
+        Assertions.assertTrue(calls <= maxCalls,
+                "Expected at most " + maxCalls + " backend calls for " + CITIZENS * (DEPTH + 1) + " persons, got " + calls);
+    }
+
+    private static long backendCalls() {
+        return sendQuery(createQuery("backend_calls")).jsonPath().getLong("data.backend_calls");
+    }
+
+    @Test
+    public void persistedQuery() {
+        final String query = "friend(name:\"Plato\"){name,idol}";
+
+        final JsonPath unknown = sendQuery(createPersistedQuery(query, false)).jsonPath();
+        Assertions.assertEquals("PersistedQueryNotFound", unknown.getString("errors[0].message"));
+        Assertions.assertEquals("PERSISTED_QUERY_NOT_FOUND", unknown.getString("errors[0].extensions.code"));
+
+        final JsonPath registered = sendQuery(createPersistedQuery(query, true)).jsonPath();
+        Assertions.assertEquals("Aristotle", registered.getString("data.friend.name"));
+
+        final JsonPath hashOnly = sendQuery(createPersistedQuery(query, false)).jsonPath();
+        Assertions.assertNull(hashOnly.get("errors"));
+        Assertions.assertEquals("Aristotle", hashOnly.getString("data.friend.name"));
+        Assertions.assertEquals("Anaxagoras", hashOnly.getString("data.friend.idol"));
+    }
+
+    @Test
+    public void persistedQueryWithWrongHash() {
+        final String body = Json.createObjectBuilder()
+                .add("query", "{friend(name:\"Aristotle\"){name}}")
+                .add("extensions", Json.createObjectBuilder()
+                        .add("persistedQuery", Json.createObjectBuilder()
+                                .add("version", 1)
+                                .add("sha256Hash", sha256("{friend(name:\"Plato\"){name}}"))))
+                .build().toString();
+        final JsonPath json = sendQuery(body).jsonPath();
+        Assertions.assertEquals("PERSISTED_QUERY_HASH_MISMATCH", json.getString("errors[0].extensions.code"));
+        Assertions.assertNull(json.get("data.friend"));
+    }
 }
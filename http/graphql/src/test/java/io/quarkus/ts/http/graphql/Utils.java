@@ -4,8 +4,12 @@ import static io.restassured.RestAssured.given;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 import jakarta.json.Json;
+import jakarta.json.JsonObjectBuilder;
 
 import io.restassured.response.Response;
 
@@ -34,4 +38,27 @@ public class Utils {
                 .add("query", "mutation {" + query + "}")
                 .build().toString();
     }
+
+    /**
+     * @param sendText whether to send the query text as well, or only its hash
+     */
+    public static String createPersistedQuery(String query, boolean sendText) {
+        final String text = "{" + query + "}";
+        final JsonObjectBuilder persistedQuery = Json.createObjectBuilder()
+                .add("version", 1)
+                .add("sha256Hash", sha256(text));
+        return Json.createObjectBuilder()
+                .add("query", sendText ? text : "")
+                .add("extensions", Json.createObjectBuilder().add("persistedQuery", persistedQuery))
+                .build().toString();
+    }
+
+    public static String sha256(String text) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package io.quarkus.ts.http.jakartarest.reactive;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.vertx.http.HttpServerOptionsCustomizer;
+import io.vertx.core.http.HttpServerOptions;
+
+/**
+ * Applies `app.compression.min-size` to the on-the-fly compression as well: bodies below it are sent as they are,
+ * whatever the route and media type, since compressing them costs CPU for no gain in size.
+ */
+@ApplicationScoped
+public class CompressionMinSizeCustomizer implements HttpServerOptionsCustomizer {
+
+    @ConfigProperty(name = "app.compression.min-size", defaultValue = "1024")
+    int minSize;
+
+    @Override
+    public void customizeHttpServer(HttpServerOptions options) {
+        options.setCompressionContentSizeThreshold(minSize);
+    }
+
+    @Override
+    public void customizeHttpsServer(HttpServerOptions options) {
+        options.setCompressionContentSizeThreshold(minSize);
+    }
+}
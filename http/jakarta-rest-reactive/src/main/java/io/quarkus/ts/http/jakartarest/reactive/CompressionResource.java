@@ -1,14 +1,19 @@
 package io.quarkus.ts.http.jakartarest.reactive;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Random;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestHeader;
 import org.jboss.resteasy.reactive.RestQuery;
 
 import io.quarkus.vertx.http.Compressed;
@@ -19,8 +24,12 @@ import io.vertx.ext.web.RoutingContext;
 @Path("/compression")
 public class CompressionResource {
     public static String SMALL_MESSAGE = "small msg!";
+    public static final String BIG_MESSAGE = "The quick brown fox jumps over the lazy dog. ".repeat(1_500);
     private static final Logger LOG = Logger.getLogger(CompressionResource.class);
 
+    @Inject
+    PrecompressedResponseCache precompressedResponseCache;
+
     @GET
     @Consumes(MediaType.TEXT_PLAIN)
     @Produces(MediaType.TEXT_PLAIN)
@@ -137,6 +146,37 @@ public class CompressionResource {
         return Uni.createFrom().item(payload);
     }
 
+    @GET
+    @Uncompressed
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/precompressed/big")
+    public Response precompressedBig(@RestHeader(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        return precompressed(BIG_MESSAGE, acceptEncoding);
+    }
+
+    @GET
+    @Uncompressed
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/precompressed/small")
+    public Response precompressedSmall(@RestHeader(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        return precompressed(SMALL_MESSAGE, acceptEncoding);
+    }
+
+    /**
+     * The precompressed routes are {@link Uncompressed}, so the on-the-fly compression never touches them, and
+     * `Content-Encoding` is only set when a coding was actually applied.
+     */
+    private Response precompressed(String message, String acceptEncoding) {
+        PrecompressedResponseCache.Encoded encoded = precompressedResponseCache
+                .encode(message.getBytes(StandardCharsets.UTF_8), acceptEncoding);
+        Response.ResponseBuilder response = Response.ok(encoded.body(), MediaType.TEXT_PLAIN_TYPE)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.isEncoded()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoded.encoding());
+        }
+        return response.build();
+    }
+
     private Uni<String> defaultSmallResponse() {
         return Uni.createFrom().item(SMALL_MESSAGE);
     }
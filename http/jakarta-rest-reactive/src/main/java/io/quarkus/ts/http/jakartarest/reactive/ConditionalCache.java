@@ -0,0 +1,18 @@
+package io.quarkus.ts.http.jakartarest.reactive;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.NameBinding;
+
+/**
+ * Opts a resource method into {@link ConditionalResponseFilter}: responses get a strong ETag and matching
+ * `If-None-Match` requests are answered with 304 without invoking the method.
+ */
+@NameBinding
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalCache {
+}
@@ -0,0 +1,85 @@
+package io.quarkus.ts.http.jakartarest.reactive;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * ETags of the last responses of {@link ConditionalCache} resources, keyed by request path and query. Only validators
+ * are kept, not bodies, so a hit can only be answered with 304.
+ * <p>
+ * Every invalidation starts a new generation. A response computed before it would put back the validator of the
+ * previous content, so validators are only stored when the generation is still the one seen before the resource ran.
+ * <p>
+ * Expired validators are dropped when they are read, and the least recently used ones once there are more than
+ * `app.http-caching.etag.max-size`, so keys that are never requested again don't pile up.
+ */
+@ApplicationScoped
+public class ConditionalResponseCache {
+
+    private final Map<String, Validator> validators;
+    private final AtomicLong generation = new AtomicLong();
+
+    @ConfigProperty(name = "app.http-caching.etag.ttl", defaultValue = "PT1M")
+    Duration ttl;
+
+    @Inject
+    public ConditionalResponseCache(
+            @ConfigProperty(name = "app.http-caching.etag.max-size", defaultValue = "1000") int maxSize) {
+        this.validators = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validator> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized String etag(String key) {
+        Validator validator = validators.get(key);
+        if (validator == null) {
+            return null;
+        }
+        if (validator.isExpired()) {
+            validators.remove(key);
+            return null;
+        }
+        return validator.etag();
+    }
+
+    /**
+     * @return the generation to hand back to {@link #put} once the response is computed
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores the validator unless an invalidation happened since the given generation was read.
+     */
+    public synchronized void put(String key, String etag, long seenGeneration) {
+        if (seenGeneration == generation.get()) {
+            validators.put(key, new Validator(etag, System.nanoTime() + ttl.toNanos()));
+        }
+    }
+
+    /**
+     * Evicts every validator whose key starts with the given path, and drops the ones still being computed.
+     */
+    public synchronized void invalidate(String path) {
+        generation.incrementAndGet();
+        validators.keySet().removeIf(key -> key.startsWith(path));
+    }
+
+    private record Validator(String etag, long expiresAt) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
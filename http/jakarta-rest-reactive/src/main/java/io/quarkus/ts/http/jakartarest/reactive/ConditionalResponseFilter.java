@@ -0,0 +1,128 @@
+package io.quarkus.ts.http.jakartarest.reactive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Answers `If-None-Match` from {@link ConditionalResponseCache} before the resource method runs, and computes a strong
+ * ETag from the serialized body of every successful response otherwise.
+ * <p>
+ * The digest is computed while the entity is written, from the same bytes, so the entity is serialized only once. The
+ * body is held back until then, because the ETag header has to be sent before it.
+ */
+@Provider
+@ConditionalCache
+public class ConditionalResponseFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+    private static final String CACHE_KEY = ConditionalResponseFilter.class.getName() + ".key";
+    private static final String CACHE_GENERATION = ConditionalResponseFilter.class.getName() + ".generation";
+
+    @Inject
+    ConditionalResponseCache cache;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        if (!isCacheable(requestContext.getMethod())) {
+            return;
+        }
+
+        String key = requestContext.getUriInfo().getRequestUri().getRawPath();
+        String query = requestContext.getUriInfo().getRequestUri().getRawQuery();
+        if (query != null) {
+            key += "?" + query;
+        }
+        requestContext.setProperty(CACHE_KEY, key);
+        // read before the resource method, so a concurrent invalidation drops the validator of this response
+        requestContext.setProperty(CACHE_GENERATION, cache.generation());
+
+        String etag = cache.etag(key);
+        if (etag != null && matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+            requestContext.abortWith(notModified(etag));
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (responseContext.getStatus() != Response.Status.OK.getStatusCode() || !responseContext.hasEntity()) {
+            // only the body of a successful response is a representation worth a validator
+            requestContext.removeProperty(CACHE_KEY);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        String key = (String) context.getProperty(CACHE_KEY);
+        if (key == null) {
+            context.proceed();
+            return;
+        }
+
+        MessageDigest digest = sha256();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        OutputStream output = context.getOutputStream();
+        context.setOutputStream(new DigestOutputStream(body, digest));
+        try {
+            context.proceed();
+        } finally {
+            context.setOutputStream(output);
+        }
+
+        String etag = Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        cache.put(key, etag, (long) context.getProperty(CACHE_GENERATION));
+        context.getHeaders().putSingle(HttpHeaders.ETAG, new EntityTag(etag));
+        body.writeTo(output);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isCacheable(String method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+
+    /**
+     * `If-None-Match` uses the weak comparison, so a `W/` prefix is ignored.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals("\"" + etag + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Response notModified(String etag) {
+        return Response.notModified(new EntityTag(etag)).build();
+    }
+}
@@ -1,7 +1,17 @@
 package io.quarkus.ts.http.jakartarest.reactive;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.resteasy.reactive.Cache;
 import org.jboss.resteasy.reactive.NoCache;
@@ -10,6 +20,15 @@ import org.jboss.resteasy.reactive.NoCache;
 @Path("/http-caching")
 public class HttpCachingResource {
     public static final String RESPONSE = "hello";
+    public static final int REPORT_LINES = 5_000;
+
+    private static final String ETAG_PATH = "/http-caching/etag";
+
+    private final AtomicLong reportInvocations = new AtomicLong();
+    private volatile String reportMessage = RESPONSE;
+
+    @Inject
+    ConditionalResponseCache conditionalResponseCache;
 
     @GET
     @Path("/no-attributes")
@@ -37,4 +56,40 @@ public class HttpCachingResource {
     public String noCacheQualified() {
         return RESPONSE;
     }
+
+    @GET
+    @Path("/etag/report")
+    @ConditionalCache
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<ReportLine> report() {
+        reportInvocations.incrementAndGet();
+        String message = reportMessage;
+        return IntStream.range(0, REPORT_LINES)
+                .mapToObj(line -> new ReportLine(line, message))
+                .toList();
+    }
+
+    @PUT
+    @Path("/etag/report")
+    @Consumes(MediaType.TEXT_PLAIN)
+    public void updateReport(String message) {
+        reportMessage = message;
+        conditionalResponseCache.invalidate(ETAG_PATH);
+    }
+
+    @DELETE
+    @Path("/etag")
+    public void invalidate() {
+        conditionalResponseCache.invalidate(ETAG_PATH);
+    }
+
+    @GET
+    @Path("/etag/report/invocations")
+    @NoCache
+    public long reportInvocations() {
+        return reportInvocations.get();
+    }
+
+    public record ReportLine(int line, String message) {
+    }
 }
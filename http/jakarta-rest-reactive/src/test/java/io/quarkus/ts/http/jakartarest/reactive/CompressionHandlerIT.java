@@ -1,8 +1,15 @@
 package io.quarkus.ts.http.jakartarest.reactive;
 
+import static io.restassured.config.DecoderConfig.decoderConfig;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
 
@@ -11,9 +18,16 @@ import jakarta.ws.rs.core.MediaType;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.github.luben.zstd.Zstd;
+
 import io.quarkus.test.bootstrap.RestService;
 import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
 import io.quarkus.test.services.QuarkusApplication;
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 
@@ -25,6 +39,8 @@ public class CompressionHandlerIT {
     static RestService app = new RestService();
 
     private static final String BASE_PATH = "/compression/small";
+    private static final String PRECOMPRESSED_PATH = "/compression/precompressed";
+    private static final byte[] BIG_MESSAGE = CompressionResource.BIG_MESSAGE.getBytes(StandardCharsets.UTF_8);
     private static final Map<String, String> DEFAULT_SMALL_GZIP_ENDPOINTS = Map.of(
             BASE_PATH + "/default_compression_text_plain", MediaType.TEXT_PLAIN,
             BASE_PATH + "/default_compression_text_html", MediaType.TEXT_HTML,
@@ -40,9 +56,10 @@ public class CompressionHandlerIT {
             BASE_PATH + "/default_no_compression_form_data", MediaType.MULTIPART_FORM_DATA);
 
     @Test
-    public void defaultCompression() {
+    public void defaultCompressionSkipsSmallBodies() {
+        // compressible media types, but the message is below `app.compression.min-size`
         for (var entry : DEFAULT_SMALL_GZIP_ENDPOINTS.entrySet()) {
-            assertCompressed(entry.getKey(), entry.getValue());
+            assertUnCompressed(entry.getKey(), entry.getValue());
         }
     }
 
@@ -54,8 +71,19 @@ public class CompressionHandlerIT {
     }
 
     @Test
-    public void forceCompression() {
-        assertCompressed(BASE_PATH + "/compression_custom_type", "application/x-custom-type");
+    public void forceCompressionSkipsSmallBodies() {
+        assertUnCompressed(BASE_PATH + "/compression_custom_type", "application/x-custom-type");
+    }
+
+    @Test
+    public void forceCompressionAboveMinSize() {
+        // well above the default `app.compression.min-size` of 1024 bytes
+        RestAssuredConfig config = RestAssured.config().decoderConfig(decoderConfig().noContentDecoders());
+        app.given().config(config)
+                .header("Accept-Encoding", "gzip")
+                .get("/compression/big/payload?bodyCharSize=4096")
+                .then().statusCode(200)
+                .header("Content-Encoding", "gzip");
     }
 
     @Test
@@ -69,15 +97,102 @@ public class CompressionHandlerIT {
         assertUnCompressed(BASE_PATH + "/mixing_types", MediaType.TEXT_PLAIN);
     }
 
-    private void assertCompressed(String path, String ContentType) {
-        String bodyStr = app.given()
-                .when()
-                .contentType(ContentType)
-                .get(path).then().statusCode(200)
-                .header("Content-Encoding", "gzip")
-                .extract().asString();
+    @Test
+    public void precompressedGzipAndDeflate() {
+        for (String encoding : new String[] { "gzip", "deflate" }) {
+            for (int i = 0; i < 2; i++) {
+                String body = app.given()
+                        .header("Accept-Encoding", encoding)
+                        .get(PRECOMPRESSED_PATH + "/big")
+                        .then().statusCode(200)
+                        .header("Content-Encoding", encoding)
+                        .header("Vary", "Accept-Encoding")
+                        .extract().asString();
+                assertEquals(CompressionResource.BIG_MESSAGE, body);
+            }
+        }
+    }
+
+    @Test
+    @DisabledOnNative // brotli4j and zstd-jni load their native libraries through JNI
+    public void precompressedBrotliAndZstd() throws IOException {
+        Brotli4jLoader.ensureAvailability();
+        byte[] brotli = rawPrecompressedBody("br");
+        assertTrue(brotli.length < BIG_MESSAGE.length);
+        assertArrayEquals(BIG_MESSAGE, Decoder.decompress(brotli).getDecompressedData());
+
+        byte[] zstd = rawPrecompressedBody("zstd");
+        assertTrue(zstd.length < BIG_MESSAGE.length);
+        assertArrayEquals(BIG_MESSAGE, Zstd.decompress(zstd, BIG_MESSAGE.length));
+    }
+
+    @Test
+    @DisabledOnNative // the wildcard case expects brotli to be available
+    public void precompressedNegotiation() {
+        assertPrecompressedEncoding("gzip;q=0.5, zstd;q=0.9", "zstd");
+        assertPrecompressedEncoding("br;q=0, zstd;q=0, gzip", "gzip");
+        assertPrecompressedEncoding("*;q=0.1, gzip;q=0", "br");
+        assertUnCompressedPrecompressed("/big", "compress");
+    }
+
+    @Test
+    public void precompressedFallsBackWithoutNativeCodecs() {
+        // zstd is not negotiated where its native library can't be loaded, the response must not fail anyway
+        RestAssuredConfig config = RestAssured.config().decoderConfig(decoderConfig().noContentDecoders());
+        app.given().config(config)
+                .header("Accept-Encoding", "zstd, gzip;q=0.5")
+                .get(PRECOMPRESSED_PATH + "/big")
+                .then().statusCode(200)
+                .header("Content-Encoding", anyOf(is("zstd"), is("gzip")));
+    }
+
+    @Test
+    public void precompressedSkipsSmallBodies() {
+        assertUnCompressedPrecompressed("/small", "gzip, deflate, br, zstd");
+    }
+
+    @Test
+    public void precompressedCpuTimeSavedMetric() {
+        assertUnCompressedPrecompressed("/small", "gzip");
+        for (int i = 0; i < 3; i++) {
+            app.given().header("Accept-Encoding", "gzip").get(PRECOMPRESSED_PATH + "/big")
+                    .then().statusCode(200).header("Content-Encoding", "gzip");
+        }
+        app.given().get("/q/metrics").then().statusCode(200)
+                .body(containsString("http_compression_cpu_saved_seconds_count{encoding=\"gzip\""))
+                .body(containsString("http_compression_cpu_spent_seconds_count{encoding=\"gzip\""))
+                .body(containsString("http_compression_skipped_total"));
+    }
+
+    private byte[] rawPrecompressedBody(String encoding) {
+        return app.given()
+                .header("Accept-Encoding", encoding)
+                .get(PRECOMPRESSED_PATH + "/big")
+                .then().statusCode(200)
+                .header("Content-Encoding", encoding)
+                .extract().asByteArray();
+    }
+
+    private void assertPrecompressedEncoding(String acceptEncoding, String expectedEncoding) {
+        // no content decoders, only the negotiated encoding is checked here
+        RestAssuredConfig config = RestAssured.config().decoderConfig(decoderConfig().noContentDecoders());
+        app.given().config(config)
+                .header("Accept-Encoding", acceptEncoding)
+                .get(PRECOMPRESSED_PATH + "/big")
+                .then().statusCode(200)
+                .header("Content-Encoding", expectedEncoding);
+    }
+
+    private void assertUnCompressedPrecompressed(String path, String acceptEncoding) {
+        ExtractableResponse<Response> response = app.given()
+                .header("Accept-Encoding", acceptEncoding)
+                .get(PRECOMPRESSED_PATH + path)
+                .then().statusCode(200)
+                .extract();
 
-        assertEquals(CompressionResource.SMALL_MESSAGE, bodyStr);
+        assertTrue(Objects.isNull(response.header("Content-Encoding")), response.headers().toString());
+        String expected = path.equals("/small") ? CompressionResource.SMALL_MESSAGE : CompressionResource.BIG_MESSAGE;
+        assertEquals(expected, response.asString());
     }
 
     private void assertUnCompressed(String path, String ContentType) {
@@ -4,21 +4,40 @@ import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
+import org.jboss.logging.Logger;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.test.scenarios.QuarkusScenario;
+import io.restassured.http.ContentType;
 import io.restassured.response.ValidatableResponse;
 
 @Tag("QUARKUS-1075")
 @QuarkusScenario
 public class HttpCachingIT {
+    private static final Logger LOG = Logger.getLogger(HttpCachingIT.class);
     private static final String BASE_PATH = "/http-caching";
+    private static final String REPORT_PATH = BASE_PATH + "/etag/report";
+    private static final int BENCHMARK_REQUESTS = 300;
+    private static final int CONCURRENT_READERS = 4;
 
     @Test
     public void shouldGetEmptyCacheControl() {
@@ -50,6 +69,158 @@ public class HttpCachingIT {
         whenGet("/nocache-qualified").header(HttpHeaders.CACHE_CONTROL, is("no-cache=\"field1\""));
     }
 
+    @Test
+    public void shouldAnswerMatchingETagWithNotModified() {
+        String etag = getReport();
+        long invocations = reportInvocations();
+
+        given()
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .get(REPORT_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_NOT_MODIFIED)
+                .header(HttpHeaders.ETAG, is(etag))
+                .body(is(emptyString()));
+        assertEquals(invocations, reportInvocations(), "Resource method should not be invoked for a cached validator");
+
+        given()
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\", W/" + etag)
+                .get(REPORT_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_NOT_MODIFIED);
+    }
+
+    @Test
+    public void shouldSendFullResponseForDifferentETag() {
+        String etag = getReport();
+
+        given()
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\"")
+                .get(REPORT_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .header(HttpHeaders.ETAG, is(etag))
+                .body("", hasSize(HttpCachingResource.REPORT_LINES));
+    }
+
+    @Test
+    public void shouldInvalidateETagWhenContentChanges() {
+        String etag = getReport();
+        try {
+            given().contentType(ContentType.TEXT).body("updated").put(REPORT_PATH)
+                    .then().statusCode(HttpStatus.SC_NO_CONTENT);
+
+            String updatedEtag = given()
+                    .header(HttpHeaders.IF_NONE_MATCH, etag)
+                    .get(REPORT_PATH)
+                    .then()
+                    .statusCode(HttpStatus.SC_OK)
+                    .body("[0].message", is("updated"))
+                    .extract().header(HttpHeaders.ETAG);
+            assertNotEquals(etag, updatedEtag);
+        } finally {
+            given().contentType(ContentType.TEXT).body(HttpCachingResource.RESPONSE).put(REPORT_PATH)
+                    .then().statusCode(HttpStatus.SC_NO_CONTENT);
+        }
+
+        // same content again means the same strong validator, even after the explicit invalidation
+        given().delete(BASE_PATH + "/etag").then().statusCode(HttpStatus.SC_NO_CONTENT);
+        long invocations = reportInvocations();
+        given()
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .get(REPORT_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .header(HttpHeaders.ETAG, is(etag));
+        assertEquals(invocations + 1, reportInvocations(), "Evicted validator should be computed again");
+        given()
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .get(REPORT_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_NOT_MODIFIED);
+        assertEquals(invocations + 1, reportInvocations(), "Recomputed validator should be served from the cache");
+    }
+
+    @Test
+    public void shouldNotRestoreStaleETagAfterConcurrentUpdate() throws Exception {
+        String etag = getReport();
+        AtomicBoolean updated = new AtomicBoolean();
+        ExecutorService readers = Executors.newFixedThreadPool(CONCURRENT_READERS);
+        try {
+            // reports still being computed with the old content when the update lands must not cache its ETag
+            List<Future<?>> reads = IntStream.range(0, CONCURRENT_READERS)
+                    .<Future<?>> mapToObj(i -> readers.submit(() -> {
+                        while (!updated.get()) {
+                            given().get(REPORT_PATH).then().statusCode(HttpStatus.SC_OK);
+                        }
+                    }))
+                    .toList();
+            given().contentType(ContentType.TEXT).body("concurrent").put(REPORT_PATH)
+                    .then().statusCode(HttpStatus.SC_NO_CONTENT);
+            updated.set(true);
+            for (Future<?> read : reads) {
+                read.get(1, TimeUnit.MINUTES);
+            }
+
+            given()
+                    .header(HttpHeaders.IF_NONE_MATCH, etag)
+                    .get(REPORT_PATH)
+                    .then()
+                    .statusCode(HttpStatus.SC_OK)
+                    .body("[0].message", is("concurrent"));
+        } finally {
+            readers.shutdownNow();
+            given().contentType(ContentType.TEXT).body(HttpCachingResource.RESPONSE).put(REPORT_PATH)
+                    .then().statusCode(HttpStatus.SC_NO_CONTENT);
+        }
+    }
+
+    @Test
+    public void notModifiedThroughputBenchmark() {
+        String etag = getReport();
+
+        long fullNanos = measure(() -> given().get(REPORT_PATH).then().statusCode(HttpStatus.SC_OK));
+        long notModifiedNanos = measure(() -> given().header(HttpHeaders.IF_NONE_MATCH, etag).get(REPORT_PATH)
+                .then().statusCode(HttpStatus.SC_NOT_MODIFIED));
+        LOG.infof("%d requests of a %d lines report: full responses %.0f req/s, 304 responses %.0f req/s",
+                BENCHMARK_REQUESTS, HttpCachingResource.REPORT_LINES,
+                requestsPerSecond(fullNanos), requestsPerSecond(notModifiedNanos));
+
+        assertTrue(notModifiedNanos < fullNanos,
+                "304 responses (" + notModifiedNanos + " ns) should be faster than full ones (" + fullNanos + " ns)");
+    }
+
+    private static String getReport() {
+        return given()
+                .get(REPORT_PATH)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .header(HttpHeaders.ETAG, notNullValue())
+                .header(HttpHeaders.ETAG, not(containsString("W/")))
+                .extract().header(HttpHeaders.ETAG);
+    }
+
+    private static long reportInvocations() {
+        return Long.parseLong(given().get(REPORT_PATH + "/invocations").then().statusCode(HttpStatus.SC_OK)
+                .extract().asString());
+    }
+
+    private static long measure(Runnable request) {
+        // warm up with the same number of requests as measured
+        for (int i = 0; i < BENCHMARK_REQUESTS; i++) {
+            request.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_REQUESTS; i++) {
+            request.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double requestsPerSecond(long nanos) {
+        return BENCHMARK_REQUESTS * 1_000_000_000d / nanos;
+    }
+
     private ValidatableResponse whenGet(String path) {
         return given()
                 .get(BASE_PATH + path)
@@ -1,5 +1,9 @@
 package io.quarkus.ts.http.reactiveroutes;
 
+import java.nio.charset.StandardCharsets;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.logging.Logger;
@@ -8,90 +12,124 @@ import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
 import io.quarkus.vertx.web.Route;
 import io.quarkus.vertx.web.RouteBase;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
-@RouteBase(path = "/compression/small")
+@RouteBase(path = "/compression")
 public class CompressionHandler {
 
     public static String SMALL_MESSAGE = "small msg!";
+    public static final String BIG_MESSAGE = "The quick brown fox jumps over the lazy dog. ".repeat(1_500);
     private static final Logger LOG = Logger.getLogger(CompressionHandler.class);
 
-    @Route(path = "/default_compression_text_plain", consumes = { MediaType.TEXT_PLAIN }, produces = {
+    @Inject
+    PrecompressedResponseCache precompressedResponseCache;
+
+    @Route(path = "/small/default_compression_text_plain", consumes = { MediaType.TEXT_PLAIN }, produces = {
             MediaType.TEXT_PLAIN })
     public void smallDefaultCompressionTextPlain(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/default_compression_text_html", consumes = { MediaType.TEXT_HTML }, produces = {
+    @Route(path = "/small/default_compression_text_html", consumes = { MediaType.TEXT_HTML }, produces = {
             MediaType.TEXT_HTML })
     public void smallDefaultCompressionTextHtml(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "default_compression_text_xml", consumes = { MediaType.TEXT_XML }, produces = { MediaType.TEXT_XML })
+    @Route(path = "/small/default_compression_text_xml", consumes = { MediaType.TEXT_XML }, produces = { MediaType.TEXT_XML })
     void smallDefaultCompressionTextXml(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/default_compression_text_css", consumes = { "text/css" }, produces = { "text/css" })
+    @Route(path = "/small/default_compression_text_css", consumes = { "text/css" }, produces = { "text/css" })
     void smallDefaultCompressionTextCss(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/default_compression_text_js", consumes = { "text/javascript" }, produces = { "text/javascript" })
+    @Route(path = "/small/default_compression_text_js", consumes = { "text/javascript" }, produces = { "text/javascript" })
     void smallDefaultCompressionTextJS(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/default_compression_app_js", consumes = { "application/javascript" }, produces = {
+    @Route(path = "/small/default_compression_app_js", consumes = { "application/javascript" }, produces = {
             "application/javascript" })
     void smallDefaultCompressionAppJS(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
     @Compressed
-    @Route(path = "/compression_custom_type", consumes = { "application/x-custom-type" }, produces = {
+    @Route(path = "/small/compression_custom_type", consumes = { "application/x-custom-type" }, produces = {
             "application/x-custom-type" })
     public void smallCompressionCustomType(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/default_compression_json", consumes = { MediaType.APPLICATION_JSON }, produces = {
+    @Route(path = "/small/default_compression_json", consumes = { MediaType.APPLICATION_JSON }, produces = {
             MediaType.APPLICATION_JSON })
     public void defaultCompressionJson(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/default_compression_xhtml_xml", consumes = { MediaType.APPLICATION_XHTML_XML }, produces = {
+    @Route(path = "/small/default_compression_xhtml_xml", consumes = { MediaType.APPLICATION_XHTML_XML }, produces = {
             MediaType.APPLICATION_XHTML_XML })
     public void defaultCompressionXhtmlXml(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/default_no_compression_xml", consumes = { MediaType.APPLICATION_XML }, produces = {
+    @Route(path = "/small/default_no_compression_xml", consumes = { MediaType.APPLICATION_XML }, produces = {
             MediaType.APPLICATION_XML })
     public void defaultNoCompressionXml(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/default_no_compression_form_data", consumes = { MediaType.MULTIPART_FORM_DATA }, produces = {
+    @Route(path = "/small/default_no_compression_form_data", consumes = { MediaType.MULTIPART_FORM_DATA }, produces = {
             MediaType.MULTIPART_FORM_DATA })
     public void defaultNoCompressionFormData(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
-    @Route(path = "/mixing_types", consumes = { MediaType.APPLICATION_XML, MediaType.TEXT_PLAIN }, produces = {
+    @Route(path = "/small/mixing_types", consumes = { MediaType.APPLICATION_XML, MediaType.TEXT_PLAIN }, produces = {
             MediaType.APPLICATION_XML, MediaType.TEXT_PLAIN })
     public void mixingContentTypes(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
     @Uncompressed
-    @Route(path = "/force_no_compression", consumes = { MediaType.TEXT_PLAIN }, produces = { MediaType.TEXT_PLAIN })
+    @Route(path = "/small/force_no_compression", consumes = { MediaType.TEXT_PLAIN }, produces = { MediaType.TEXT_PLAIN })
     public void forceNoCompression(RoutingContext rc) {
         defaultSmallResponse(rc);
     }
 
+    @Uncompressed
+    @Route(path = "/precompressed/big", methods = Route.HttpMethod.GET, produces = { MediaType.TEXT_PLAIN })
+    public void precompressedBig(RoutingContext rc) {
+        precompressed(rc, BIG_MESSAGE);
+    }
+
+    @Uncompressed
+    @Route(path = "/precompressed/small", methods = Route.HttpMethod.GET, produces = { MediaType.TEXT_PLAIN })
+    public void precompressedSmall(RoutingContext rc) {
+        precompressed(rc, SMALL_MESSAGE);
+    }
+
+    /**
+     * The precompressed routes are {@link Uncompressed}, so the on-the-fly compression never touches them, and
+     * `Content-Encoding` is only set when a coding was actually applied.
+     */
+    private void precompressed(RoutingContext rc, String message) {
+        PrecompressedResponseCache.Encoded encoded = precompressedResponseCache.encode(
+                message.getBytes(StandardCharsets.UTF_8), rc.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+        HttpServerResponse response = rc.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_PLAIN)
+                .putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.isEncoded()) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, encoded.encoding());
+        }
+        response.setStatusCode(200).end(Buffer.buffer(encoded.body()));
+    }
+
     private void defaultSmallResponse(RoutingContext rc) {
         rc.response().setStatusCode(200).end(SMALL_MESSAGE);
     }
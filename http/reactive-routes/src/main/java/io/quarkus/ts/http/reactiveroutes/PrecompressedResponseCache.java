@@ -0,0 +1,214 @@
+package io.quarkus.ts.http.reactiveroutes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.util.Native;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Compresses response bodies once per content and encoding, and serves the cached bytes afterwards. The encoding is
+ * negotiated from `Accept-Encoding` among brotli, zstd, gzip and deflate, and bodies below the minimum size are sent
+ * as they are.
+ * <p>
+ * CPU time spent compressing on a miss is recorded in `http.compression.cpu.spent`, and the same amount is recorded
+ * in `http.compression.cpu.saved` on every hit that reuses the result.
+ */
+@ApplicationScoped
+public class PrecompressedResponseCache {
+
+    private static final String IDENTITY = "identity";
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, Entry> entries;
+    private final int minSize;
+    private final List<String> supported;
+    private final MeterRegistry registry;
+
+    @Inject
+    public PrecompressedResponseCache(MeterRegistry registry,
+            @ConfigProperty(name = "app.compression.min-size", defaultValue = "1024") int minSize,
+            @ConfigProperty(name = "app.compression.cache.max-entries", defaultValue = "256") int maxEntries) {
+        this.registry = registry;
+        this.minSize = minSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        // server preference when the client accepts several encodings with the same quality
+        List<String> encodings = new ArrayList<>();
+        if (Brotli4jLoader.isAvailable()) {
+            encodings.add("br");
+        }
+        if (isZstdAvailable()) {
+            encodings.add("zstd");
+        }
+        encodings.addAll(List.of("gzip", "deflate"));
+        this.supported = List.copyOf(encodings);
+    }
+
+    /**
+     * zstd-jni ships native libraries for a limited set of platforms, and they can't always be loaded (native mode),
+     * in which case zstd is never negotiated and clients fall back to the other encodings.
+     */
+    private static boolean isZstdAvailable() {
+        try {
+            Native.load();
+            return true;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    public Encoded encode(byte[] body, String acceptEncoding) {
+        if (body.length < minSize) {
+            registry.counter("http.compression.skipped", "reason", "min-size").increment();
+            return new Encoded(IDENTITY, body);
+        }
+        String encoding = negotiate(acceptEncoding);
+        if (IDENTITY.equals(encoding)) {
+            return new Encoded(IDENTITY, body);
+        }
+
+        String key = sha256(body) + ":" + encoding;
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null) {
+            cpuTimer("http.compression.cpu.saved", encoding).record(entry.cpuNanos(), TimeUnit.NANOSECONDS);
+            return new Encoded(encoding, entry.compressed());
+        }
+
+        long start = cpuTime();
+        byte[] compressed = compress(body, encoding);
+        long cpuNanos = cpuTime() - start;
+        cpuTimer("http.compression.cpu.spent", encoding).record(cpuNanos, TimeUnit.NANOSECONDS);
+        synchronized (entries) {
+            entries.put(key, new Entry(compressed, cpuNanos));
+        }
+        return new Encoded(encoding, compressed);
+    }
+
+    /**
+     * @return the accepted encoding with the highest quality, or identity if none of the supported ones is accepted
+     */
+    String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        Map<String, Double> qualities = new HashMap<>();
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            double quality = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            qualities.put(tokens[0].trim().toLowerCase(Locale.ROOT), quality);
+        }
+
+        String best = IDENTITY;
+        double bestQuality = 0;
+        for (String encoding : supported) {
+            double quality = qualities.getOrDefault(encoding, qualities.getOrDefault("*", 0.0));
+            if (quality > bestQuality) {
+                best = encoding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    private Timer cpuTimer(String name, String encoding) {
+        return Timer.builder(name).tag("encoding", encoding).register(registry);
+    }
+
+    private static byte[] compress(byte[] body, String encoding) {
+        return switch (encoding) {
+            case "br" -> {
+                try {
+                    yield Encoder.compress(body);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            case "zstd" -> Zstd.compress(body);
+            case "gzip" -> stream(body, GZIPOutputStream::new);
+            case "deflate" -> stream(body, DeflaterOutputStream::new);
+            default -> throw new IllegalArgumentException("Unsupported encoding " + encoding);
+        };
+    }
+
+    private static byte[] stream(byte[] body, CompressingStream factory) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(body.length / 2);
+        try (OutputStream compressing = factory.wrap(result)) {
+            compressing.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toByteArray();
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Encoded(String encoding, byte[] body) {
+
+        public boolean isEncoded() {
+            return !IDENTITY.equals(encoding);
+        }
+    }
+
+    private record Entry(byte[] compressed, long cpuNanos) {
+    }
+
+    @FunctionalInterface
+    private interface CompressingStream {
+        OutputStream wrap(OutputStream target) throws IOException;
+    }
+}
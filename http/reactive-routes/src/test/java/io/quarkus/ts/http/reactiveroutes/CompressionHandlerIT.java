@@ -1,11 +1,13 @@
 package io.quarkus.ts.http.reactiveroutes;
 
 import static io.restassured.config.DecoderConfig.decoderConfig;
-import static io.restassured.config.DecoderConfig.ContentDecoder.DEFLATE;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
 
@@ -14,6 +16,10 @@ import jakarta.ws.rs.core.MediaType;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.github.luben.zstd.Zstd;
+
 import io.quarkus.test.bootstrap.RestService;
 import io.quarkus.test.scenarios.QuarkusScenario;
 import io.quarkus.test.scenarios.annotations.DisabledOnNative;
@@ -33,6 +39,8 @@ public class CompressionHandlerIT {
     static RestService app = new RestService();
 
     private static final String BASE_PATH = "/compression/small";
+    private static final String PRECOMPRESSED_PATH = "/compression/precompressed";
+    private static final byte[] BIG_MESSAGE = CompressionHandler.BIG_MESSAGE.getBytes(StandardCharsets.UTF_8);
     private static final Map<String, String> DEFAULT_SMALL_GZIP_ENDPOINTS = Map.of(
             BASE_PATH + "/default_compression_text_plain", MediaType.TEXT_PLAIN,
             BASE_PATH + "/default_compression_text_html", MediaType.TEXT_HTML,
@@ -48,9 +56,10 @@ public class CompressionHandlerIT {
             BASE_PATH + "/default_no_compression_form_data", MediaType.MULTIPART_FORM_DATA);
 
     @Test
-    public void defaultCompression() {
+    public void defaultCompressionSkipsSmallBodies() {
+        // compressible media types, but the message is below `app.compression.min-size`
         for (var entry : DEFAULT_SMALL_GZIP_ENDPOINTS.entrySet()) {
-            assertCompressed(entry.getKey(), entry.getValue());
+            assertUnCompressed(entry.getKey(), entry.getValue());
         }
     }
 
@@ -62,13 +71,8 @@ public class CompressionHandlerIT {
     }
 
     @Test
-    public void forceCompression() {
-        assertCompressed(BASE_PATH + "/compression_custom_type", "application/x-custom-type");
-    }
-
-    @Test
-    public void checkContentIsGzipped() {
-        assertContentIsNotTextPlain(BASE_PATH + "/compression_custom_type", "application/x-custom-type");
+    public void forceCompressionSkipsSmallBodies() {
+        assertUnCompressed(BASE_PATH + "/compression_custom_type", "application/x-custom-type");
     }
 
     @Test
@@ -82,29 +86,62 @@ public class CompressionHandlerIT {
         assertUnCompressed(BASE_PATH + "/mixing_types", MediaType.TEXT_PLAIN);
     }
 
-    private void assertCompressed(String path, String ContentType) {
-        String bodyStr = app.given()
-                .when()
-                .contentType(ContentType)
-                .get(path).then().statusCode(200)
-                .header("Content-Encoding", "gzip")
-                .extract().asString();
+    @Test
+    public void precompressedGzip() {
+        for (int i = 0; i < 2; i++) {
+            String body = app.given()
+                    .header("Accept-encoding", "gzip")
+                    .get(PRECOMPRESSED_PATH + "/big")
+                    .then().statusCode(200)
+                    .header("Content-Encoding", "gzip")
+                    .header("Vary", "Accept-Encoding")
+                    .extract().asString();
+            assertEquals(CompressionHandler.BIG_MESSAGE, body);
+        }
+    }
 
-        assertEquals(CompressionHandler.SMALL_MESSAGE, bodyStr);
+    @Test
+    public void precompressedBrotliAndZstd() throws IOException {
+        Brotli4jLoader.ensureAvailability();
+        byte[] brotli = rawPrecompressedBody("br");
+        assertTrue(brotli.length < BIG_MESSAGE.length);
+        assertArrayEquals(BIG_MESSAGE, Decoder.decompress(brotli).getDecompressedData());
+
+        byte[] zstd = rawPrecompressedBody("zstd;q=1, gzip;q=0.5");
+        assertArrayEquals(BIG_MESSAGE, Zstd.decompress(zstd, BIG_MESSAGE.length));
     }
 
-    private void assertContentIsNotTextPlain(String path, String ContentType) {
-        // by default restassurance has GZIP and DEFLATE decoders, we are going to remove Gzip in order to read a raw Gzipped body
-        RestAssuredConfig config = RestAssured.config().decoderConfig(decoderConfig().contentDecoders(DEFLATE));
-        String rawBody = app.given().config(config)
-                .header("Accept-encoding", "gzip")
-                .when()
-                .contentType(ContentType)
-                .get(path).then().statusCode(200)
-                .header("Content-Encoding", "gzip")
-                .extract().asString();
+    @Test
+    public void precompressedSkipsSmallBodies() {
+        ExtractableResponse<Response> response = app.given()
+                .header("Accept-encoding", "gzip, br, zstd")
+                .get(PRECOMPRESSED_PATH + "/small")
+                .then().statusCode(200)
+                .extract();
+
+        assertTrue(Objects.isNull(response.header("Content-Encoding")), response.headers().toString());
+        assertEquals(CompressionHandler.SMALL_MESSAGE, response.asString());
+    }
+
+    @Test
+    public void precompressedCpuTimeSavedMetric() {
+        for (int i = 0; i < 3; i++) {
+            app.given().header("Accept-encoding", "gzip").get(PRECOMPRESSED_PATH + "/big")
+                    .then().statusCode(200).header("Content-Encoding", "gzip");
+        }
+        app.given().get("/q/metrics").then().statusCode(200)
+                .body(containsString("http_compression_cpu_saved_seconds_count{encoding=\"gzip\""))
+                .body(containsString("http_compression_cpu_spent_seconds_count{encoding=\"gzip\""));
+    }
 
-        assertNotEquals(CompressionHandler.SMALL_MESSAGE, rawBody);
+    private byte[] rawPrecompressedBody(String acceptEncoding) {
+        RestAssuredConfig config = RestAssured.config().decoderConfig(decoderConfig().noContentDecoders());
+        return app.given().config(config)
+                .header("Accept-encoding", acceptEncoding)
+                .get(PRECOMPRESSED_PATH + "/big")
+                .then().statusCode(200)
+                .header("Content-Encoding", acceptEncoding.split(";")[0])
+                .extract().asByteArray();
     }
 
     private void assertUnCompressed(String path, String ContentType) {
@@ -0,0 +1,58 @@
+package io.quarkus.ts.infinispan.client;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.jmx.RemoteCacheClientStatisticsMXBean;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.infinispan.client.Remote;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.ts.infinispan.client.serialized.ShopItem;
+
+/**
+ * Exposes the near cache statistics of the remote caches that have a near cache configured.
+ */
+@ApplicationScoped
+public class NearCacheMetrics {
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    @Remote("myshop")
+    RemoteCache<String, ShopItem> myshop;
+
+    void onStart(@Observes StartupEvent ev) {
+        register(myshop);
+    }
+
+    private void register(RemoteCache<?, ?> cache) {
+        RemoteCacheClientStatisticsMXBean statistics = cache.clientStatistics();
+        FunctionCounter.builder("infinispan.near.cache.hits", statistics,
+                RemoteCacheClientStatisticsMXBean::getNearCacheHits)
+                .tag("cache", cache.getName())
+                .register(registry);
+        FunctionCounter.builder("infinispan.near.cache.misses", statistics,
+                RemoteCacheClientStatisticsMXBean::getNearCacheMisses)
+                .tag("cache", cache.getName())
+                .register(registry);
+        FunctionCounter.builder("infinispan.near.cache.invalidations", statistics,
+                RemoteCacheClientStatisticsMXBean::getNearCacheInvalidations)
+                .tag("cache", cache.getName())
+                .register(registry);
+        Gauge.builder("infinispan.near.cache.hit.ratio", statistics, NearCacheMetrics::hitRatio)
+                .tag("cache", cache.getName())
+                .register(registry);
+    }
+
+    private static double hitRatio(RemoteCacheClientStatisticsMXBean statistics) {
+        long hits = statistics.getNearCacheHits();
+        long reads = hits + statistics.getNearCacheMisses();
+        return reads == 0 ? 0 : (double) hits / reads;
+    }
+}
@@ -0,0 +1,138 @@
+package io.quarkus.ts.infinispan.client.counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.infinispan.client.hotrod.RemoteCache;
+
+import io.quarkus.infinispan.client.Remote;
+
+@Path("/clustered-counter")
+public class ClusteredCounterResource {
+
+    private static final String GET_AND_PUT_COUNTER = "benchmark-counter";
+
+    @Inject
+    ClusteredCounters counters;
+
+    @Inject
+    @Remote("mycache")
+    RemoteCache<String, Integer> cache;
+
+    @Path("/strong")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public long getStrong() {
+        return counters.getStrong();
+    }
+
+    @Path("/strong/increment")
+    @PUT
+    @Produces(MediaType.TEXT_PLAIN)
+    public long incrementStrong() {
+        return counters.incrementStrong();
+    }
+
+    @Path("/weak")
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    public long getWeak() {
+        return counters.getWeak();
+    }
+
+    @Path("/weak/increment")
+    @PUT
+    public void incrementWeak() {
+        counters.incrementWeak();
+    }
+
+    @Path("/weak/flush")
+    @PUT
+    @Produces(MediaType.TEXT_PLAIN)
+    public long flushWeak() {
+        return counters.flushWeak();
+    }
+
+    @Path("/reset")
+    @PUT
+    public void reset() {
+        counters.reset();
+    }
+
+    /**
+     * Increments every counter from the given number of concurrent clients and compares the result with the
+     * get-then-put approach of {@link io.quarkus.ts.infinispan.client.InfinispanCounterResource}, which loses updates.
+     */
+    @Path("/benchmark")
+    @PUT
+    @Produces(MediaType.APPLICATION_JSON)
+    public BenchmarkResult benchmark(@QueryParam("clients") @DefaultValue("200") int clients,
+            @QueryParam("increments") @DefaultValue("50") int increments) throws Exception {
+        counters.reset();
+        cache.put(GET_AND_PUT_COUNTER, 0);
+
+        Run getAndPut = run(clients, increments, () -> cache.put(GET_AND_PUT_COUNTER, cache.get(GET_AND_PUT_COUNTER) + 1),
+                () -> cache.get(GET_AND_PUT_COUNTER));
+        Run strong = run(clients, increments, counters::incrementStrong, counters::getStrong);
+        Run weak = run(clients, increments, counters::incrementWeak, () -> {
+            counters.flushWeak();
+            return counters.getWeak();
+        });
+
+        return new BenchmarkResult((long) clients * increments, getAndPut, strong, weak);
+    }
+
+    private static Run run(int clients, int increments, Runnable increment, CounterReader reader)
+            throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> tasks = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                tasks.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < increments; j++) {
+                        increment.run();
+                    }
+                    return null;
+                }));
+            }
+
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            long value = reader.read();
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            return new Run(value, millis, millis == 0 ? -1 : (long) clients * increments * 1000 / millis);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface CounterReader {
+        long read();
+    }
+
+    public record Run(long value, long millis, long incrementsPerSecond) {
+    }
+
+    public record BenchmarkResult(long expected, Run getAndPut, Run strong, Run weak) {
+    }
+}
@@ -0,0 +1,131 @@
+package io.quarkus.ts.infinispan.client.counter;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.infinispan.counter.api.CounterConfiguration;
+import org.infinispan.counter.api.CounterManager;
+import org.infinispan.counter.api.CounterType;
+import org.infinispan.counter.api.Storage;
+import org.infinispan.counter.api.SyncStrongCounter;
+import org.infinispan.counter.api.SyncWeakCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counters kept by the Infinispan cluster. The strong counter is incremented atomically on the server for every call,
+ * while the weak counter increments are aggregated locally and added to the server periodically.
+ */
+@ApplicationScoped
+public class ClusteredCounters {
+
+    public static final String STRONG_COUNTER = "strong-counter";
+    public static final String WEAK_COUNTER = "weak-counter";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClusteredCounters.class);
+
+    @Inject
+    CounterManager counterManager;
+
+    @ConfigProperty(name = "app.counters.weak.flush-interval", defaultValue = "1s")
+    Duration flushInterval;
+
+    @ConfigProperty(name = "app.counters.weak.concurrency-level", defaultValue = "16")
+    int concurrencyLevel;
+
+    private final LongAdder pendingWeakIncrements = new LongAdder();
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    void start() {
+        defineCounters();
+        flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        flusher.shutdown();
+        flushQuietly();
+    }
+
+    public long incrementStrong() {
+        return strong().incrementAndGet();
+    }
+
+    public long getStrong() {
+        return strong().getValue();
+    }
+
+    public void incrementWeak() {
+        pendingWeakIncrements.increment();
+    }
+
+    /**
+     * @return the value stored in the cluster, which does not include the increments that were not flushed yet
+     */
+    public long getWeak() {
+        return weak().getValue();
+    }
+
+    /**
+     * Adds the locally aggregated increments to the weak counter. Increments made while flushing are kept for the next
+     * flush, and the delta is kept on failure too, so no increment is lost or counted twice.
+     */
+    public synchronized long flushWeak() {
+        long delta = pendingWeakIncrements.sum();
+        if (delta != 0) {
+            weak().add(delta);
+            pendingWeakIncrements.add(-delta);
+        }
+
+        return delta;
+    }
+
+    /**
+     * Defines the counters again if needed, as they do not survive a restart of the Infinispan cluster, and sets them to
+     * zero.
+     */
+    public synchronized void reset() {
+        defineCounters();
+        pendingWeakIncrements.reset();
+        strong().reset();
+        weak().reset();
+    }
+
+    private void flushQuietly() {
+        try {
+            flushWeak();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to flush the weak counter, the increments will be retried: " + e.getMessage());
+        }
+    }
+
+    private void defineCounters() {
+        counterManager.defineCounter(STRONG_COUNTER, CounterConfiguration.builder(CounterType.UNBOUNDED_STRONG)
+                .storage(Storage.VOLATILE)
+                .build());
+        counterManager.defineCounter(WEAK_COUNTER, CounterConfiguration.builder(CounterType.WEAK)
+                .concurrencyLevel(concurrencyLevel)
+                .storage(Storage.VOLATILE)
+                .build());
+    }
+
+    private SyncStrongCounter strong() {
+        return counterManager.getStrongCounter(STRONG_COUNTER).sync();
+    }
+
+    private SyncWeakCounter weak() {
+        return counterManager.getWeakCounter(WEAK_COUNTER).sync();
+    }
+}
@@ -5,14 +5,19 @@ import java.util.concurrent.TimeUnit;
 
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
 import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.jmx.RemoteCacheClientStatisticsMXBean;
 import org.infinispan.commons.api.query.Query;
 
 import io.quarkus.infinispan.client.Remote;
@@ -56,10 +61,71 @@ public class ShopItemResource {
         return searchQuery.execute().list();
     }
 
+    /**
+     * Lookup by key, served from the near cache when the entry was read before and not invalidated since.
+     */
+    @GET
+    @Path("/{key}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public ShopItem getItem(@PathParam("key") String key) {
+        ShopItem item = cache_items.get(key);
+        if (item == null) {
+            throw new NotFoundException("Item " + key + " not found");
+        }
+        return item;
+    }
+
+    @PUT
+    @Path("/{key}")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public ShopItem updateItem(@PathParam("key") String key, ShopItem item) {
+        cache_items.put(key, item);
+        return item;
+    }
+
+    /**
+     * Reads the given key repeatedly and compares the average lookup time with the average time of cold reads, which
+     * have to go to the server because the key was written just before.
+     */
+    @GET
+    @Path("/{key}/lookup-benchmark")
+    @Produces(MediaType.APPLICATION_JSON)
+    public LookupBenchmark lookupBenchmark(@PathParam("key") String key,
+            @QueryParam("reads") @DefaultValue("10000") int reads,
+            @QueryParam("coldReads") @DefaultValue("100") int coldReads) {
+        RemoteCacheClientStatisticsMXBean statistics = cache_items.clientStatistics();
+        ShopItem item = getItem(key);
+
+        long remoteHits = statistics.getRemoteHits();
+        long coldElapsed = 0;
+        for (int i = 0; i < coldReads; i++) {
+            // writing the key invalidates its near cache entry, only the following lookup is timed
+            cache_items.put(key, item);
+            long coldStart = System.nanoTime();
+            getItem(key);
+            coldElapsed += System.nanoTime() - coldStart;
+        }
+        long remoteReads = statistics.getRemoteHits() - remoteHits;
+
+        long nearCacheHits = statistics.getNearCacheHits();
+        long start = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            getItem(key);
+        }
+        long elapsed = System.nanoTime() - start;
+        return new LookupBenchmark(reads, statistics.getNearCacheHits() - nearCacheHits, elapsed / reads,
+                coldReads, remoteReads, coldReads == 0 ? 0 : coldElapsed / coldReads);
+    }
+
     @GET
     @Path("/clear-cache")
     @Produces(MediaType.APPLICATION_JSON)
     public void clearCache() {
         cache_items.clear();
     }
+
+    public record LookupBenchmark(int reads, long nearCacheHits, long averageLookupNanos, int coldReads, long remoteReads,
+            long averageColdReadNanos) {
+    }
 }
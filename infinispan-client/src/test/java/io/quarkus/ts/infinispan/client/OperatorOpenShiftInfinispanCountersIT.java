@@ -23,6 +23,7 @@ import io.quarkus.test.scenarios.OpenShiftScenario;
 import io.quarkus.test.services.QuarkusApplication;
 import io.quarkus.test.utils.AwaitilityUtils;
 import io.quarkus.test.utils.Command;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 
 @OpenShiftScenario(deployment = OpenShiftDeploymentStrategy.UsingOpenShiftExtension)
@@ -328,6 +329,40 @@ public class OperatorOpenShiftInfinispanCountersIT extends BaseOpenShiftInfinisp
         assertEquals("Cache=2 Client=2", secondClientCounters);
     }
 
+    /**
+     * Concurrent increments from 200 clients. Strong and weak counters are updated atomically by the Infinispan cluster,
+     * so they must reach the exact count, unlike the get-then-put approach of the other endpoints.
+     *
+     * Weak counter increments are aggregated locally, so they should be faster than two remote calls per increment.
+     */
+    @Test
+    @Order(11)
+    public void testClusteredCountersUnderConcurrentClients() {
+        int clients = 200;
+        int increments = 50;
+        one.given().put("/clustered-counter/reset").then().statusCode(HttpStatus.SC_NO_CONTENT);
+
+        JsonPath result = one.given()
+                .queryParam("clients", clients)
+                .queryParam("increments", increments)
+                .put("/clustered-counter/benchmark")
+                .then().statusCode(HttpStatus.SC_OK)
+                .extract().jsonPath();
+
+        long expected = (long) clients * increments;
+        assertEquals(expected, result.getLong("expected"));
+        assertEquals(expected, result.getLong("strong.value"), "Strong counter lost updates: " + result.prettify());
+        assertEquals(expected, result.getLong("weak.value"), "Weak counter lost updates: " + result.prettify());
+        Assertions.assertTrue(result.getLong("getAndPut.value") <= expected, result.prettify());
+        Assertions.assertTrue(result.getLong("weak.millis") < result.getLong("getAndPut.millis"),
+                "Weak counter should be faster than get-then-put: " + result.prettify());
+
+        // both applications share the clustered counter
+        one.given().put("/clustered-counter/strong/increment").then().statusCode(HttpStatus.SC_OK);
+        two.given().put("/clustered-counter/strong/increment").then().statusCode(HttpStatus.SC_OK);
+        assertEquals(String.valueOf(expected + 2), getCounterValue(two, "/clustered-counter/strong"));
+    }
+
     /**
      * Setting the cache counter value to 0 from provided client url address.
      * At the end, the cache value is tested that it is actually 0.
@@ -5,6 +5,8 @@ import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 import java.util.Arrays;
@@ -18,11 +20,13 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import io.quarkus.logging.Log;
 import io.quarkus.test.bootstrap.RestService;
 import io.quarkus.test.scenarios.OpenShiftDeploymentStrategy;
 import io.quarkus.test.scenarios.OpenShiftScenario;
 import io.quarkus.test.services.QuarkusApplication;
 import io.quarkus.ts.infinispan.client.serialized.ShopItem;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 
 @OpenShiftScenario(deployment = OpenShiftDeploymentStrategy.UsingOpenShiftExtension)
@@ -101,6 +105,56 @@ public class OperatorOpenShiftInfinispanObjectsIT extends BaseOpenShiftInfinispa
         });
     }
 
+    /**
+     * Test that a lookup after an update returns the new value, even if the previous one was held by the near cache
+     */
+    @Test
+    @Order(5)
+    public void testNearCacheReadYourWrites() {
+        whenAddCacheItems(maxThresholdItemList);
+        thenItemPriceMustBe("item1", 100);
+        thenItemPriceMustBe("item1", 100);
+
+        given().header("Content-Type", "application/json")
+                .body(new ShopItem("Item 1", 150, ShopItem.Type.ELECTRONIC))
+                .put("/items/item1")
+                .then().statusCode(HttpStatus.SC_OK);
+        thenItemPriceMustBe("item1", 150);
+
+        clearCache();
+        given().get("/items/item1").then().statusCode(HttpStatus.SC_NOT_FOUND);
+    }
+
+    /**
+     * Test that repeated lookups are served from the near cache, faster than the cold reads sent to the server
+     */
+    @Test
+    @Order(6)
+    public void testNearCacheHitRatio() {
+        int reads = 10_000;
+        int coldReads = 100;
+        whenAddCacheItems(maxThresholdItemList);
+
+        JsonPath result = given().queryParam("reads", reads)
+                .queryParam("coldReads", coldReads)
+                .get("/items/item2/lookup-benchmark")
+                .then().statusCode(HttpStatus.SC_OK)
+                .extract().jsonPath();
+        Log.info("Near cache lookup benchmark: " + result.prettify());
+
+        assertTrue(result.getLong("nearCacheHits") >= reads - 10, result.prettify());
+        assertEquals(coldReads, result.getLong("remoteReads"), "Cold reads should all go to the server");
+        assertTrue(result.getLong("averageLookupNanos") < result.getLong("averageColdReadNanos"), result.prettify());
+
+        String metrics = given().get("/q/metrics").then().statusCode(HttpStatus.SC_OK).extract().asString();
+        double hitRatio = metrics.lines()
+                .filter(line -> line.startsWith("infinispan_near_cache_hit_ratio{cache=\"myshop\""))
+                .mapToDouble(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Near cache hit ratio not found in " + metrics));
+        assertTrue(hitRatio > 0.9, "Unexpected near cache hit ratio " + hitRatio);
+    }
+
     private void clearCache() {
         given().get("/items/clear-cache").then().statusCode(HttpStatus.SC_NO_CONTENT);
     }
@@ -148,6 +202,10 @@ public class OperatorOpenShiftInfinispanObjectsIT extends BaseOpenShiftInfinispa
         response.then().body(matcher);
     }
 
+    private void thenItemPriceMustBe(String key, int price) {
+        given().get("/items/" + key).then().statusCode(HttpStatus.SC_OK).body("price", is(price));
+    }
+
     private void thenCacheIsEmpty() {
         response.then().body("isEmpty()", is(true));
     }
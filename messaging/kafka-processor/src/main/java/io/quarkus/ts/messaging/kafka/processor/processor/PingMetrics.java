@@ -0,0 +1,53 @@
+package io.quarkus.ts.messaging.kafka.processor.processor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters shared by all the {@link PingProcessor} instances. Kafka Streams creates one processor per task and closes
+ * them on rebalances, so the meters are registered once here and the processors only update them.
+ */
+@ApplicationScoped
+public class PingMetrics {
+
+    private final Counter records;
+    private final Timer punctuateLatency;
+    private final AtomicLong recordsPerSecond = new AtomicLong();
+    private long recordsAtLastSample;
+    private long lastSample = System.nanoTime();
+
+    @Inject
+    public PingMetrics(MeterRegistry registry) {
+        this.records = registry.counter("ping.processor.records");
+        this.punctuateLatency = registry.timer("ping.processor.punctuate");
+        registry.gauge("ping.processor.records.per.second", recordsPerSecond);
+    }
+
+    public void recordProcessed() {
+        records.increment();
+    }
+
+    /**
+     * Updates the rate of all the processors since the previous sample, whichever processor triggers it.
+     */
+    public void sample() {
+        punctuateLatency.record(() -> {
+            synchronized (this) {
+                long now = System.nanoTime();
+                long processed = (long) records.count();
+                long elapsed = now - lastSample;
+                if (elapsed > 0) {
+                    recordsPerSecond.set((processed - recordsAtLastSample) * 1_000_000_000L / elapsed);
+                }
+                recordsAtLastSample = processed;
+                lastSample = now;
+            }
+        });
+    }
+}
@@ -1,15 +1,46 @@
 package io.quarkus.ts.messaging.kafka.processor.processor;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+
+import org.apache.kafka.streams.processor.PunctuationType;
 import org.apache.kafka.streams.processor.api.ContextualProcessor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
 import org.apache.kafka.streams.processor.api.Record;
 
 import io.quarkiverse.kafkastreamsprocessor.api.Processor;
 
+/**
+ * Relays the pings without deserializing them: values stay as bytes and the relay header is added to the record
+ * headers in place.
+ */
 @Processor
-public class PingProcessor extends ContextualProcessor<String, String, String, String> {
+public class PingProcessor extends ContextualProcessor<String, byte[], String, byte[]> {
+
+    public static final String RELAY_HEADER = "relayed-by";
+
+    private static final byte[] RELAY_HEADER_VALUE = "ping-processor".getBytes(StandardCharsets.UTF_8);
+    private static final Duration METRICS_INTERVAL = Duration.ofSeconds(1);
+
+    private final PingMetrics metrics;
+
+    @Inject
+    public PingProcessor(PingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void init(ProcessorContext<String, byte[]> context) {
+        super.init(context);
+        context.schedule(METRICS_INTERVAL, PunctuationType.WALL_CLOCK_TIME, timestamp -> metrics.sample());
+    }
 
     @Override
-    public void process(Record<String, String> ping) {
+    public void process(Record<String, byte[]> ping) {
+        ping.headers().add(RELAY_HEADER, RELAY_HEADER_VALUE);
         context().forward(ping);
+        metrics.recordProcessed();
     }
 }
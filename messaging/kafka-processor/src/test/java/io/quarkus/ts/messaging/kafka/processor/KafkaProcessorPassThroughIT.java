@@ -0,0 +1,114 @@
+package io.quarkus.ts.messaging.kafka.processor;
+
+import static io.quarkus.ts.messaging.kafka.processor.processor.PingProcessor.RELAY_HEADER;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.bootstrap.KafkaService;
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.services.KafkaContainer;
+import io.quarkus.test.services.QuarkusApplication;
+import io.quarkus.test.services.containers.model.KafkaVendor;
+
+@QuarkusScenario
+public class KafkaProcessorPassThroughIT {
+
+    private static final String PING_TOPIC = "ping-events";
+    private static final String PONG_TOPIC = "pong-events";
+    private static final int RECORDS = 1000;
+
+    @KafkaContainer(vendor = KafkaVendor.STRIMZI)
+    static KafkaService kafka = new KafkaService();
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("kafka.bootstrap.servers", kafka::getBootstrapUrl)
+            .withProperty("quarkus.kafka-streams.bootstrap-servers", kafka::getBootstrapUrl);
+
+    @BeforeAll
+    static void createTopics() throws Exception {
+        try (AdminClient admin = AdminClient.create(Map.of("bootstrap.servers", kafka.getBootstrapUrl()))) {
+            admin.createTopics(List.of(new NewTopic(PING_TOPIC, 1, (short) 1), new NewTopic(PONG_TOPIC, 1, (short) 1)))
+                    .all().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void valuesAreRelayedByteForByte() {
+        // not valid UTF-8, a String round trip would replace these bytes
+        byte[] payload = { (byte) 0xC3, (byte) 0x28, 0, (byte) 0xFF, 'p', 'i', 'n', 'g' };
+
+        try (KafkaConsumer<String, byte[]> consumer = createConsumer();
+                KafkaProducer<String, byte[]> producer = createProducer()) {
+            for (int i = 0; i < RECORDS; i++) {
+                producer.send(new ProducerRecord<>(PING_TOPIC, "key-" + i, payload));
+            }
+            producer.flush();
+
+            List<ConsumerRecord<String, byte[]>> pongs = new ArrayList<>();
+            await().atMost(1, TimeUnit.MINUTES)
+                    .until(() -> {
+                        consumer.poll(Duration.ofMillis(500)).forEach(pongs::add);
+                        return pongs.size() >= RECORDS;
+                    });
+
+            assertEquals(RECORDS, pongs.size());
+            for (ConsumerRecord<String, byte[]> pong : pongs) {
+                assertArrayEquals(payload, pong.value());
+                assertNotNull(pong.headers().lastHeader(RELAY_HEADER), "Relay header should be added");
+            }
+        }
+
+        await().atMost(30, TimeUnit.SECONDS).untilAsserted(() -> app.given().get("/q/metrics")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body(containsString("ping_processor_records_total " + (double) RECORDS))
+                .body(containsString("ping_processor_punctuate_seconds_count")));
+    }
+
+    private static KafkaProducer<String, byte[]> createProducer() {
+        Properties props = new Properties();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapUrl());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+        return new KafkaProducer<>(props);
+    }
+
+    private static KafkaConsumer<String, byte[]> createConsumer() {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapUrl());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "pong-test");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(props);
+        consumer.subscribe(List.of(PONG_TOPIC));
+        return consumer;
+    }
+}
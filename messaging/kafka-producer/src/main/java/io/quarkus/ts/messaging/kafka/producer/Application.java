@@ -32,6 +32,9 @@ public class Application {
     @Inject
     KafkaBlockingProducer producer;
 
+    @Inject
+    KafkaBulkProducer bulkProducer;
+
     Router router;
 
     void init(@Observes Router router) {
@@ -43,6 +46,9 @@ public class Application {
         addRoute(HttpMethod.POST, "/event/:topic", rc -> producer.pushEventToTopic(rc));
         addRoute(HttpMethod.POST, "/event", rc -> producer.pushEvent(rc));
         addRoute(HttpMethod.POST, "/messageEvent", rc -> producer.pushMessageEvent(rc));
+        // the bulk body is streamed to Kafka instead of being buffered by the body handler
+        addRoute(HttpMethod.POST, "/events/bulk", false, rc -> bulkProducer.pushEvents(rc));
+        addRoute(HttpMethod.POST, "/events/benchmark", rc -> bulkProducer.benchmark(rc));
     }
 
     void onStop(@Observes ShutdownEvent ev) {
@@ -50,11 +56,15 @@ public class Application {
     }
 
     private void addRoute(HttpMethod method, String path, Handler<RoutingContext> handler) {
+        addRoute(method, path, true, handler);
+    }
+
+    private void addRoute(HttpMethod method, String path, boolean bufferBody, Handler<RoutingContext> handler) {
         Route route = this.router.route(method, path)
                 .handler(LoggerHandler.create())
                 .handler(CorsHandler.create().addRelativeOrigin(".*"));
 
-        if (method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT))
+        if (bufferBody && (method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT)))
             route.handler(BodyHandler.create());
 
         route.handler(handler).failureHandler(rc -> failureHandler.handler(rc));
@@ -0,0 +1,100 @@
+package io.quarkus.ts.messaging.kafka.producer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.MutinyEmitter;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+import io.vertx.mutiny.core.parsetools.RecordParser;
+
+/**
+ * Sends many records at once through the high-throughput channel, which batches, compresses and deduplicates them on
+ * the producer side. The number of records waiting for an ack is bounded, so the request body is read only as fast as
+ * Kafka acknowledges the records.
+ */
+@ApplicationScoped
+public class KafkaBulkProducer {
+
+    @Inject
+    @Channel("test")
+    MutinyEmitter<String> emitter;
+
+    @Inject
+    @Channel("bulk")
+    MutinyEmitter<String> bulkEmitter;
+
+    @ConfigProperty(name = "app.bulk.max-in-flight", defaultValue = "1024")
+    int maxInFlight;
+
+    /**
+     * Sends every line of a NDJSON request body as a record.
+     */
+    public void pushEvents(final RoutingContext context) {
+        long startMs = System.currentTimeMillis();
+        RecordParser.newDelimited("\n", HttpServerRequest.newInstance(context.request()))
+                .toMulti()
+                .map(line -> line.toString().strip())
+                .filter(line -> !line.isEmpty())
+                .onItem().transformToUni(bulkEmitter::send).merge(maxInFlight)
+                .collect().with(Collectors.counting())
+                .subscribe().with(records -> context.response()
+                        .putHeader("x-ms", String.valueOf(System.currentTimeMillis() - startMs))
+                        .putHeader("Content-Type", "application/json")
+                        .end(new JsonObject().put("records", records).encode()),
+                        context::fail);
+    }
+
+    /**
+     * Sends the same records through the default and the high-throughput channels and reports the throughput and the
+     * ack latency of each one.
+     */
+    public void benchmark(final RoutingContext context) {
+        int records = Integer.parseInt(context.request().getParam("records", "10000"));
+        int size = Integer.parseInt(context.request().getParam("size", "512"));
+        String payload = "x".repeat(size);
+
+        run(emitter, records, payload)
+                .flatMap(defaultProfile -> run(bulkEmitter, records, payload)
+                        .map(highThroughput -> new JsonObject()
+                                .put("records", records)
+                                .put("default", defaultProfile)
+                                .put("highThroughput", highThroughput)))
+                .subscribe().with(result -> context.response()
+                        .putHeader("Content-Type", "application/json")
+                        .end(result.encode()),
+                        context::fail);
+    }
+
+    private Uni<JsonObject> run(MutinyEmitter<String> channel, int records, String payload) {
+        long start = System.nanoTime();
+        return Multi.createFrom().range(0, records)
+                .onItem().transformToUni(id -> Uni.createFrom().deferred(() -> {
+                    long sent = System.nanoTime();
+                    return channel.send("{\"id\":" + id + ",\"payload\":\"" + payload + "\"}")
+                            .replaceWith(() -> System.nanoTime() - sent);
+                })).merge(maxInFlight)
+                .collect().asList()
+                .map(latencies -> result(latencies, System.nanoTime() - start));
+    }
+
+    private static JsonObject result(List<Long> latencies, long elapsedNanos) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        long p99 = sorted.length == 0 ? 0 : sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+        return new JsonObject()
+                .put("millis", elapsedNanos / 1_000_000)
+                .put("recordsPerSecond", elapsedNanos == 0 ? 0 : sorted.length * 1_000_000_000L / elapsedNanos)
+                .put("p99AckMillis", p99 / 1_000_000.0);
+    }
+}
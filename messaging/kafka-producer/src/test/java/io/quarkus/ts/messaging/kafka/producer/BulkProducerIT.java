@@ -0,0 +1,98 @@
+package io.quarkus.ts.messaging.kafka.producer;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.http.HttpStatus;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.bootstrap.KafkaService;
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.services.KafkaContainer;
+import io.quarkus.test.services.QuarkusApplication;
+import io.quarkus.test.services.containers.model.KafkaVendor;
+import io.restassured.path.json.JsonPath;
+
+@QuarkusScenario
+public class BulkProducerIT {
+
+    private static final Logger LOG = Logger.getLogger(BulkProducerIT.class);
+
+    private static final int RECORDS = 20_000;
+
+    @KafkaContainer(vendor = KafkaVendor.STRIMZI)
+    static final KafkaService kafka = new KafkaService();
+
+    @QuarkusApplication
+    static RestService app = new RestService().withProperty("kafka.bootstrap.servers", kafka::getBootstrapUrl);
+
+    @Test
+    public void bulkEventsAreProducedExactlyOnce() {
+        String body = IntStream.range(0, RECORDS)
+                .mapToObj(id -> "{\"bulk\":" + id + "}")
+                .collect(Collectors.joining("\n", "", "\n"));
+
+        app.given().contentType("application/x-ndjson").body(body)
+                .post("/events/bulk")
+                .then().statusCode(HttpStatus.SC_OK)
+                .body("records", is(RECORDS));
+
+        Set<String> received = new HashSet<>();
+        int duplicates = 0;
+        try (KafkaConsumer<String, String> consumer = createConsumer()) {
+            long deadline = System.currentTimeMillis() + Duration.ofMinutes(1).toMillis();
+            while (received.size() < RECORDS && System.currentTimeMillis() < deadline) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofSeconds(1))) {
+                    // the benchmark sends its records to the same topic
+                    if (record.value().startsWith("{\"bulk\"") && !received.add(record.value())) {
+                        duplicates++;
+                    }
+                }
+            }
+        }
+
+        assertEquals(RECORDS, received.size(), "Every NDJSON line should be produced");
+        assertEquals(0, duplicates, "Idempotent producer should not produce duplicates");
+    }
+
+    @Test
+    public void highThroughputProfileIsFaster() {
+        JsonPath result = app.given()
+                .queryParam("records", RECORDS)
+                .queryParam("size", 512)
+                .post("/events/benchmark")
+                .then().statusCode(HttpStatus.SC_OK)
+                .extract().jsonPath();
+        LOG.info("Producer benchmark: " + result.prettify());
+
+        assertTrue(result.getLong("highThroughput.recordsPerSecond") > result.getLong("default.recordsPerSecond"),
+                "High-throughput profile should produce more records per second: " + result.prettify());
+    }
+
+    private KafkaConsumer<String, String> createConsumer() {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapUrl());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "bulk-test");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props);
+        consumer.subscribe(Collections.singletonList("bulk-events"));
+        return consumer;
+    }
+}
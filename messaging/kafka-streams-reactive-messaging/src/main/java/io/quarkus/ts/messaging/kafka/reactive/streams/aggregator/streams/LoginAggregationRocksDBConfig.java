@@ -0,0 +1,56 @@
+package io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.streams;
+
+import java.util.Map;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * RocksDB tuning for the aggregation store. Every store shares one bounded block cache, which also holds the index and
+ * bloom filter blocks, so point lookups of aggregates that are not in the store skip reading the data blocks.
+ */
+@RegisterForReflection
+public class LoginAggregationRocksDBConfig implements RocksDBConfigSetter {
+
+    private static final long BLOCK_CACHE_SIZE = 16 * 1024 * 1024L;
+    private static final long BLOCK_SIZE = 16 * 1024L;
+    private static final double BLOOM_FILTER_BITS_PER_KEY = 10;
+
+    /**
+     * Created on first use, so the RocksDB native library is not loaded while building a native image.
+     */
+    private static Cache blockCache;
+
+    private BloomFilter filter;
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        filter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY);
+        BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+        tableConfig.setBlockCache(blockCache());
+        tableConfig.setBlockSize(BLOCK_SIZE);
+        tableConfig.setFilterPolicy(filter);
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+        tableConfig.setPinL0FilterAndIndexBlocksInCache(true);
+        options.setTableFormatConfig(tableConfig);
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // the block cache is shared by all the stores and must not be closed here
+        filter.close();
+    }
+
+    private static synchronized Cache blockCache() {
+        if (blockCache == null) {
+            blockCache = new LRUCache(BLOCK_CACHE_SIZE);
+        }
+        return blockCache;
+    }
+}
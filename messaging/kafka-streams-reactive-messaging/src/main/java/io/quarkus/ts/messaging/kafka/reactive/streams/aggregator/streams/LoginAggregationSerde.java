@@ -0,0 +1,76 @@
+package io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.streams;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.model.LoginAggregation;
+
+/**
+ * Fixed layout binary serde for the aggregation store: code (int), count (int), endpoint length (short) and the UTF-8
+ * endpoint. A negative length stands for a null endpoint.
+ */
+public class LoginAggregationSerde implements Serde<LoginAggregation>, Serializer<LoginAggregation>,
+        Deserializer<LoginAggregation> {
+
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Short.BYTES;
+
+    @Override
+    public byte[] serialize(String topic, LoginAggregation aggregation) {
+        if (aggregation == null) {
+            return null;
+        }
+
+        byte[] endpoint = aggregation.getEndpoint() == null ? null
+                : aggregation.getEndpoint().getBytes(StandardCharsets.UTF_8);
+        if (endpoint != null && endpoint.length > Short.MAX_VALUE) {
+            throw new SerializationException("Endpoint is too long: " + endpoint.length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + (endpoint == null ? 0 : endpoint.length))
+                .putInt(aggregation.getCode())
+                .putInt(aggregation.getCount())
+                .putShort(endpoint == null ? -1 : (short) endpoint.length);
+        if (endpoint != null) {
+            buffer.put(endpoint);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public LoginAggregation deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length < HEADER_SIZE) {
+            throw new SerializationException("Login aggregation needs at least " + HEADER_SIZE + " bytes, got " + data.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        LoginAggregation aggregation = new LoginAggregation();
+        aggregation.setCode(buffer.getInt());
+        aggregation.setCount(buffer.getInt());
+        short endpointLength = buffer.getShort();
+        if (endpointLength >= 0) {
+            aggregation.setEndpoint(new String(data, HEADER_SIZE, endpointLength, StandardCharsets.UTF_8));
+        }
+        return aggregation;
+    }
+
+    @Override
+    public Serializer<LoginAggregation> serializer() {
+        return this;
+    }
+
+    @Override
+    public Deserializer<LoginAggregation> deserializer() {
+        return this;
+    }
+
+    @Override
+    public void close() {
+    }
+}
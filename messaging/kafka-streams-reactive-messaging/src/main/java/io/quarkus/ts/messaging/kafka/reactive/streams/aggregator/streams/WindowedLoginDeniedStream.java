@@ -9,13 +9,18 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Singleton;
 
+import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.utils.Bytes;
 import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.Topology;
 import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KTable;
 import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.Suppressed;
 import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.kstream.Windowed;
 import org.apache.kafka.streams.state.WindowStore;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
@@ -37,25 +42,48 @@ public class WindowedLoginDeniedStream {
     @ConfigProperty(name = "login.denied.windows.sec")
     int windowsLoginSec;
 
+    /**
+     * Serde of the aggregates kept in the window store. The aggregates sent to {@link #LOGIN_DENIED_AGGREGATED_TOPIC}
+     * are JSON either way.
+     */
+    @ConfigProperty(name = "login.aggregation.store.serde", defaultValue = "binary")
+    StoreSerde storeSerde;
+
+    /**
+     * Whether to send only the final aggregate of each window, once the window closes, instead of every update.
+     */
+    @ConfigProperty(name = "login.denied.suppress-until-window-close", defaultValue = "false")
+    boolean suppressUntilWindowClose;
+
     @Produces
     @Singleton
     public Topology buildTopology() {
+        return buildTopology(Duration.ofSeconds(windowsLoginSec), storeSerde.create(), suppressUntilWindowClose);
+    }
+
+    public static Topology buildTopology(Duration window, Serde<LoginAggregation> loginAggregationStoreSerde,
+            boolean suppressUntilWindowClose) {
         StreamsBuilder builder = new StreamsBuilder();
 
         JsonbSerde<LoginAttempt> loginAttemptSerde = new JsonbSerde<>(LoginAttempt.class);
         JsonbSerde<LoginAggregation> loginAggregationSerde = new JsonbSerde<>(LoginAggregation.class);
 
-        builder.stream(LOGIN_ATTEMPTS_TOPIC, Consumed.with(Serdes.String(), loginAttemptSerde))
+        KTable<Windowed<String>, LoginAggregation> aggregations = builder
+                .stream(LOGIN_ATTEMPTS_TOPIC, Consumed.with(Serdes.String(), loginAttemptSerde))
                 .groupByKey()
-                .windowedBy(TimeWindows.ofSizeWithNoGrace(Duration.ofSeconds(windowsLoginSec)))
+                .windowedBy(TimeWindows.ofSizeWithNoGrace(window))
                 .aggregate(LoginAggregation::new,
                         (id, value, aggregation) -> aggregation.updateFrom(value),
                         Materialized.<String, LoginAggregation, WindowStore<Bytes, byte[]>> as(LOGIN_AGGREGATION_STORE)
                                 .withKeySerde(Serdes.String())
-                                .withValueSerde(loginAggregationSerde))
-                .toStream()
+                                .withValueSerde(loginAggregationStoreSerde));
+        if (suppressUntilWindowClose) {
+            aggregations = aggregations.suppress(Suppressed.untilWindowCloses(Suppressed.BufferConfig.unbounded()));
+        }
+
+        aggregations.toStream()
                 .filter((k, v) -> v.getCode() == UNAUTHORIZED.getStatusCode() || v.getCode() == FORBIDDEN.getStatusCode())
-                .to(LOGIN_DENIED_AGGREGATED_TOPIC);
+                .to(LOGIN_DENIED_AGGREGATED_TOPIC, Produced.valueSerde(loginAggregationSerde));
 
         return builder.build();
     }
@@ -66,4 +94,13 @@ public class WindowedLoginDeniedStream {
     public String fanOut(String jsonLoginAggregation) {
         return jsonLoginAggregation;
     }
+
+    public enum StoreSerde {
+        BINARY,
+        JSON;
+
+        public Serde<LoginAggregation> create() {
+            return this == BINARY ? new LoginAggregationSerde() : new JsonbSerde<>(LoginAggregation.class);
+        }
+    }
 }
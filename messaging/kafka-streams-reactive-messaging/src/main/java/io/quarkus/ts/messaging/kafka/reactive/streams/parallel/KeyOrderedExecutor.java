@@ -0,0 +1,105 @@
+package io.quarkus.ts.messaging.kafka.reactive.streams.parallel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs tasks concurrently on a worker pool, except for tasks with the same key, which run one after another in the
+ * order they were submitted. The number of unfinished tasks is bounded: once it is reached, the stage returned by
+ * {@link #submit(Object, Runnable)} completes only when a task finishes, so the caller can stop submitting.
+ */
+public final class KeyOrderedExecutor {
+
+    private static final CompletableFuture<Void> ADMITTED = CompletableFuture.completedFuture(null);
+
+    private final ExecutorService workers;
+    private final int maxInFlight;
+    /**
+     * Last task submitted for each key, which the next task for the same key waits for. A null key is a key too.
+     */
+    private final Map<Object, CompletableFuture<Void>> tails = new HashMap<>();
+    private int inFlight;
+    private CompletableFuture<Void> capacity;
+
+    public KeyOrderedExecutor(int workers, int maxInFlight) {
+        this.workers = Executors.newFixedThreadPool(workers);
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @return a stage that completes when another task can be submitted
+     */
+    public synchronized CompletionStage<Void> submit(Object key, Runnable task) {
+        CompletableFuture<Void> previous = tails.getOrDefault(key, ADMITTED);
+        // a failed task must not prevent the following tasks for the same key from running
+        CompletableFuture<Void> next = previous.exceptionally(failure -> null).thenRunAsync(task, workers);
+        tails.put(key, next);
+        inFlight++;
+        next.whenComplete((ignored, failure) -> completed(key, next));
+
+        if (inFlight < maxInFlight) {
+            return ADMITTED;
+        }
+        if (capacity == null) {
+            capacity = new CompletableFuture<>();
+        }
+        return capacity;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Waits for the submitted tasks to finish, including the ones that are still queued behind a task with the same key,
+     * and stops the worker pool.
+     *
+     * @return true if every task finished within the timeout
+     */
+    public boolean drain(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            List<CompletableFuture<Void>> pending;
+            while (!(pending = pendingTasks()).isEmpty()) {
+                CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                        // failures were already handled by the tasks, only their completion matters here
+                        .exceptionally(failure -> null)
+                        .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    private synchronized List<CompletableFuture<Void>> pendingTasks() {
+        return new ArrayList<>(tails.values());
+    }
+
+    private void completed(Object key, CompletableFuture<Void> task) {
+        CompletableFuture<Void> released = null;
+        synchronized (this) {
+            tails.remove(key, task);
+            inFlight--;
+            if (capacity != null && inFlight < maxInFlight) {
+                released = capacity;
+                capacity = null;
+            }
+        }
+        if (released != null) {
+            released.complete(null);
+        }
+    }
+}
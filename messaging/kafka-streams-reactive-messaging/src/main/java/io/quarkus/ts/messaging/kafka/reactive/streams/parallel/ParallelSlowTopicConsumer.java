@@ -0,0 +1,96 @@
+package io.quarkus.ts.messaging.kafka.reactive.streams.parallel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Acknowledgment;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.jboss.logging.Logger;
+
+import io.smallrye.reactive.messaging.kafka.api.IncomingKafkaRecordMetadata;
+
+/**
+ * Same slow processing as {@link io.quarkus.ts.messaging.kafka.reactive.streams.shutdown.SlowTopicConsumer}, but records
+ * with different keys are processed concurrently. Records are acknowledged out of order once processed, and the
+ * throttled commit strategy of the Kafka connector only commits the offsets below the oldest unprocessed record.
+ */
+@ApplicationScoped
+public class ParallelSlowTopicConsumer {
+
+    private static final Logger LOG = Logger.getLogger(ParallelSlowTopicConsumer.class);
+
+    @ConfigProperty(name = "app.slow-parallel.processing-time", defaultValue = "100ms")
+    Duration processingTime;
+
+    @ConfigProperty(name = "app.slow-parallel.workers", defaultValue = "16")
+    int workers;
+
+    @ConfigProperty(name = "app.slow-parallel.max-in-flight", defaultValue = "256")
+    int maxInFlight;
+
+    @ConfigProperty(name = "app.slow-parallel.drain-timeout", defaultValue = "10s")
+    Duration drainTimeout;
+
+    private final Map<String, List<String>> processedByKey = new ConcurrentHashMap<>();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private KeyOrderedExecutor executor;
+
+    @PostConstruct
+    void start() {
+        executor = new KeyOrderedExecutor(workers, maxInFlight);
+    }
+
+    @PreDestroy
+    void drain() throws InterruptedException {
+        int inFlight = executor.inFlight();
+        if (executor.drain(drainTimeout)) {
+            LOG.infof("Parallel consumer drained %d in-flight messages, processed %d of %d received", inFlight,
+                    processed.get(), received.get());
+        } else {
+            LOG.warn("Parallel consumer stopped with " + executor.inFlight() + " unprocessed messages");
+        }
+    }
+
+    @Incoming("slow-parallel")
+    @Acknowledgment(Acknowledgment.Strategy.MANUAL)
+    public CompletionStage<Void> process(Message<String> message) {
+        String key = message.getMetadata(IncomingKafkaRecordMetadata.class)
+                .map(metadata -> (String) metadata.getKey())
+                .orElse(null);
+        received.incrementAndGet();
+        return executor.submit(key, () -> {
+            try {
+                Thread.sleep(processingTime.toMillis());
+                processedByKey.computeIfAbsent(String.valueOf(key), k -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(message.getPayload());
+                processed.incrementAndGet();
+                LOG.info("Processed in parallel " + message.getPayload());
+                message.ack();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                message.nack(e);
+            }
+        });
+    }
+
+    public Map<String, List<String>> processedByKey() {
+        return processedByKey;
+    }
+
+    public void reset() {
+        processedByKey.clear();
+    }
+}
@@ -0,0 +1,52 @@
+package io.quarkus.ts.messaging.kafka.reactive.streams.parallel;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+
+@Path("/slow-parallel")
+public class ParallelSlowTopicResource {
+
+    @Inject
+    @Channel("slow-parallel-topic")
+    Emitter<String> emitter;
+
+    @Inject
+    ParallelSlowTopicConsumer consumer;
+
+    @POST
+    @Path("/sendMessages/{count}")
+    public void sendMessages(@PathParam("count") Integer count, @QueryParam("keys") @DefaultValue("10") int keys) {
+        for (int index = 1; index <= count; index++) {
+            emitter.send(KafkaRecord.of("key-" + index % keys, "Message " + index));
+        }
+    }
+
+    @GET
+    @Path("/processed")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, List<String>> processed() {
+        return consumer.processedByKey();
+    }
+
+    @DELETE
+    @Path("/processed")
+    public void reset() {
+        consumer.reset();
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.ts.messaging.kafka.reactive.streams;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import io.quarkus.test.bootstrap.KafkaService;
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.KafkaContainer;
+import io.quarkus.test.services.QuarkusApplication;
+import io.quarkus.test.services.containers.model.KafkaVendor;
+import io.quarkus.ts.messaging.kafka.reactive.streams.parallel.KeyOrderedExecutor;
+import io.quarkus.ts.messaging.kafka.reactive.streams.parallel.ParallelSlowTopicConsumer;
+import io.quarkus.ts.messaging.kafka.reactive.streams.parallel.ParallelSlowTopicResource;
+import io.restassured.common.mapper.TypeRef;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@QuarkusScenario
+@DisabledOnNative(reason = "Due to high native build execution time")
+public class KafkaParallelConsumerIT {
+
+    private static final int TOTAL_MESSAGES = 100;
+    private static final int KEYS = 10;
+    /**
+     * Sequential processing takes 100 ms per message, so 100 messages would need 10 seconds.
+     */
+    private static final int PARALLEL_PROCESSING_TIMEOUT_SEC = 5;
+    private static final Pattern DRAINED = Pattern
+            .compile("Parallel consumer drained (\\d+) in-flight messages, processed (\\d+) of (\\d+) received");
+
+    @KafkaContainer(vendor = KafkaVendor.STRIMZI)
+    static KafkaService kafka = new KafkaService();
+
+    @QuarkusApplication(classes = { ParallelSlowTopicConsumer.class, ParallelSlowTopicResource.class,
+            KeyOrderedExecutor.class }, properties = "kafka.parallel.consumer.application.properties")
+    static RestService app = new RestService()
+            .withProperty("kafka.bootstrap.servers", kafka::getBootstrapUrl)
+            .withProperty("quarkus.kafka-streams.bootstrap-servers", kafka::getBootstrapUrl);
+
+    @Order(1)
+    @Test
+    public void shouldProcessConcurrentlyKeepingOrderPerKey() {
+        // the first message waits for the partition assignment
+        app.given().queryParam("keys", 1).post("/slow-parallel/sendMessages/1").then().statusCode(204);
+        await().atMost(1, TimeUnit.MINUTES).until(() -> !processed().isEmpty());
+        app.given().delete("/slow-parallel/processed").then().statusCode(204);
+
+        app.given().queryParam("keys", KEYS).post("/slow-parallel/sendMessages/" + TOTAL_MESSAGES).then().statusCode(204);
+
+        await().atMost(PARALLEL_PROCESSING_TIMEOUT_SEC, TimeUnit.SECONDS)
+                .until(() -> processed().values().stream().mapToInt(List::size).sum() == TOTAL_MESSAGES);
+        Map<String, List<String>> processed = processed();
+        assertEquals(KEYS, processed.size());
+        processed.forEach((key, messages) -> {
+            for (int i = 1; i < messages.size(); i++) {
+                assertTrue(messageNumber(messages.get(i - 1)) < messageNumber(messages.get(i)),
+                        "Messages with key " + key + " were processed out of order: " + messages);
+            }
+        });
+    }
+
+    @Order(2)
+    @Test
+    public void shouldDrainInFlightMessagesOnShutdown() {
+        // enough messages to still be processing when the application stops, and few enough to drain within the timeout
+        app.given().queryParam("keys", KEYS).post("/slow-parallel/sendMessages/" + 3 * TOTAL_MESSAGES).then().statusCode(204);
+        await().atMost(1, TimeUnit.MINUTES).until(() -> app.getLogs().stream()
+                .anyMatch(line -> line.contains("Processed in parallel")));
+
+        app.stop();
+
+        List<String> logs = app.getLogs();
+        Matcher drained = logs.stream()
+                .map(DRAINED::matcher)
+                .filter(Matcher::find)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("In-flight messages were not drained: " + String.join("\n", logs)));
+        assertTrue(Integer.parseInt(drained.group(1)) > 0, "Nothing was in flight at shutdown: " + drained.group());
+        assertEquals(drained.group(3), drained.group(2), "Received messages were lost at shutdown: " + drained.group());
+    }
+
+    private Map<String, List<String>> processed() {
+        return app.given().get("/slow-parallel/processed").then().statusCode(200)
+                .extract().as(new TypeRef<>() {
+                });
+    }
+
+    private static int messageNumber(String message) {
+        return Integer.parseInt(message.substring(message.lastIndexOf(' ') + 1));
+    }
+}
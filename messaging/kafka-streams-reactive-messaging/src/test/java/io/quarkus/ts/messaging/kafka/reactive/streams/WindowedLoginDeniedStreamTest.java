@@ -0,0 +1,154 @@
+package io.quarkus.ts.messaging.kafka.reactive.streams;
+
+import static io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.streams.WindowedLoginDeniedStream.LOGIN_ATTEMPTS_TOPIC;
+import static io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.streams.WindowedLoginDeniedStream.LOGIN_DENIED_AGGREGATED_TOPIC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.kstream.WindowedSerdes;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.kafka.client.serialization.JsonbSerde;
+import io.quarkus.kafka.client.serialization.JsonbSerializer;
+import io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.model.LoginAggregation;
+import io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.model.LoginAttempt;
+import io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.streams.LoginAggregationRocksDBConfig;
+import io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.streams.LoginAggregationSerde;
+import io.quarkus.ts.messaging.kafka.reactive.streams.aggregator.streams.WindowedLoginDeniedStream;
+
+public class WindowedLoginDeniedStreamTest {
+
+    private static final Logger LOG = Logger.getLogger(WindowedLoginDeniedStreamTest.class);
+
+    private static final Duration WINDOW = Duration.ofSeconds(3);
+    private static final String ENDPOINT = "redhat/login";
+    private static final int RECORDS = 100_000;
+    private static final int KEYS = 100;
+    private static final int WARM_UP_ROUNDS = 1;
+
+    @TempDir
+    Path stateDir;
+
+    @Test
+    public void binarySerdeRoundTrip() {
+        LoginAggregationSerde serde = new LoginAggregationSerde();
+        LoginAggregation aggregation = new LoginAggregation().updateFrom(new LoginAttempt("1", ENDPOINT, 401));
+        aggregation.updateFrom(new LoginAttempt("2", ENDPOINT, 401));
+
+        byte[] binary = serde.serialize("topic", aggregation);
+        LoginAggregation copy = serde.deserialize("topic", binary);
+        assertEquals(ENDPOINT, copy.getEndpoint());
+        assertEquals(401, copy.getCode());
+        assertEquals(2, copy.getCount());
+        assertNull(serde.deserialize("topic", serde.serialize("topic", new LoginAggregation())).getEndpoint());
+
+        try (JsonbSerde<LoginAggregation> json = new JsonbSerde<>(LoginAggregation.class)) {
+            byte[] jsonBytes = json.serializer().serialize("topic", aggregation);
+            assertTrue(binary.length < jsonBytes.length,
+                    "Binary aggregate (" + binary.length + " bytes) should be smaller than JSON (" + jsonBytes.length + ")");
+        }
+    }
+
+    @Test
+    public void suppressedStreamSendsOnlyFinalAggregates() {
+        try (TopologyTestDriver driver = driver(new LoginAggregationSerde(), true)) {
+            TestInputTopic<String, LoginAttempt> attempts = attempts(driver);
+            TestOutputTopic<Windowed<String>, String> denied = denied(driver);
+            Instant start = Instant.ofEpochMilli(0);
+
+            for (int i = 0; i < 5; i++) {
+                attempts.pipeInput("user", new LoginAttempt(String.valueOf(i), ENDPOINT, 401), start.plusMillis(i * 100L));
+            }
+            assertTrue(denied.isEmpty(), "Nothing should be sent before the window closes");
+
+            // a record of the next window advances the stream time and closes the first window
+            attempts.pipeInput("user", new LoginAttempt("next", ENDPOINT, 401), start.plus(WINDOW));
+            List<String> aggregates = denied.readValuesToList();
+            assertEquals(1, aggregates.size(), "Only the final aggregate should be sent: " + aggregates);
+            assertTrue(aggregates.get(0).contains("\"count\":5"), aggregates.get(0));
+        }
+    }
+
+    @Test
+    public void aggregationThroughputForBothSerdes() {
+        long json = 0;
+        long binary = 0;
+        for (int round = 0; round <= WARM_UP_ROUNDS; round++) {
+            json = aggregate(new JsonbSerde<>(LoginAggregation.class), "json-" + round);
+            binary = aggregate(new LoginAggregationSerde(), "binary-" + round);
+        }
+        LOG.infof("Login aggregation of %d records: JSON store serde %d records/s, binary store serde %d records/s",
+                RECORDS, json, binary);
+    }
+
+    /**
+     * @return records per second
+     */
+    private long aggregate(Serde<LoginAggregation> storeSerde, String run) {
+        try (TopologyTestDriver driver = driver(storeSerde, false, stateDir.resolve(run))) {
+            TestInputTopic<String, LoginAttempt> attempts = attempts(driver);
+            TestOutputTopic<Windowed<String>, String> denied = denied(driver);
+            Instant start = Instant.ofEpochMilli(0);
+
+            long started = System.nanoTime();
+            for (int i = 0; i < RECORDS; i++) {
+                attempts.pipeInput("user-" + i % KEYS, new LoginAttempt(String.valueOf(i), ENDPOINT, 401),
+                        start.plusMillis(i));
+            }
+            long elapsed = System.nanoTime() - started;
+
+            assertEquals(RECORDS, denied.getQueueSize(), "Every update should be sent without suppression");
+            return RECORDS * 1_000_000_000L / elapsed;
+        }
+    }
+
+    private TopologyTestDriver driver(Serde<LoginAggregation> storeSerde, boolean suppress) {
+        return driver(storeSerde, suppress, stateDir);
+    }
+
+    private static TopologyTestDriver driver(Serde<LoginAggregation> storeSerde, boolean suppress, Path stateDir) {
+        try {
+            Files.createDirectories(stateDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Properties config = new Properties();
+        config.put(StreamsConfig.APPLICATION_ID_CONFIG, "login-denied-test");
+        config.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:1234");
+        config.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        config.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, LoginAggregationRocksDBConfig.class);
+        // no record cache, so every update reaches the store and the output topic
+        config.put(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG, 0);
+        return new TopologyTestDriver(WindowedLoginDeniedStream.buildTopology(WINDOW, storeSerde, suppress), config);
+    }
+
+    private static TestInputTopic<String, LoginAttempt> attempts(TopologyTestDriver driver) {
+        return driver.createInputTopic(LOGIN_ATTEMPTS_TOPIC, new StringSerializer(), new JsonbSerializer<>());
+    }
+
+    private static TestOutputTopic<Windowed<String>, String> denied(TopologyTestDriver driver) {
+        return driver.createOutputTopic(LOGIN_DENIED_AGGREGATED_TOPIC,
+                WindowedSerdes.timeWindowedSerdeFrom(String.class, WINDOW.toMillis()).deserializer(),
+                new StringDeserializer());
+    }
+}
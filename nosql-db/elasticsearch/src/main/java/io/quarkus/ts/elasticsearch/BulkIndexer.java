@@ -0,0 +1,232 @@
+package io.quarkus.ts.elasticsearch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Buffers documents and sends them through the `_bulk` API once the buffer reaches a number of actions or an
+ * approximate size, or when the flush interval elapses. At most `concurrentRequests` bulk requests are in flight;
+ * callers adding documents block until one of them completes, so a fast producer can't overwhelm the cluster.
+ */
+public final class BulkIndexer implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(BulkIndexer.class);
+    private static final ContentType NDJSON = ContentType.create("application/x-ndjson", StandardCharsets.UTF_8);
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final String index;
+    private final int maxActions;
+    private final long maxBytes;
+    private final int concurrentRequests;
+    private final Semaphore inFlight;
+    private final ScheduledExecutorService scheduler;
+    private final ScheduledFuture<?> periodicFlush;
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicReference<String> firstFailure = new AtomicReference<>();
+
+    private StringBuilder buffer = new StringBuilder();
+    private int bufferedActions;
+    private boolean closed;
+
+    public BulkIndexer(RestClient restClient, ObjectMapper objectMapper, String index, int maxActions, long maxBytes,
+            Duration flushInterval, int concurrentRequests) {
+        this.restClient = restClient;
+        this.objectMapper = objectMapper;
+        this.index = index;
+        this.maxActions = maxActions;
+        this.maxBytes = maxBytes;
+        this.concurrentRequests = concurrentRequests;
+        this.inFlight = new Semaphore(concurrentRequests);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bulk-indexer-" + index);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        this.periodicFlush = scheduler.scheduleWithFixedDelay(this::periodicFlush, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void add(String id, Object document) throws IOException {
+        String action = "{\"index\":{\"_index\":" + objectMapper.writeValueAsString(index)
+                + ",\"_id\":" + objectMapper.writeValueAsString(id) + "}}\n";
+        String source = objectMapper.writeValueAsString(document) + "\n";
+        Batch batch = null;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Bulk indexer for index " + index + " is already closed");
+            }
+            buffer.append(action).append(source);
+            bufferedActions++;
+            if (bufferedActions >= maxActions || buffer.length() >= maxBytes) {
+                batch = drain();
+            }
+        }
+        send(batch);
+    }
+
+    public void flush() throws IOException {
+        Batch batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        send(batch);
+    }
+
+    /**
+     * Sends the remaining documents and waits for all the bulk requests in flight.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        periodicFlush.cancel(false);
+        scheduler.shutdown();
+        try {
+            // a periodic flush may be sending a batch right now
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+            flush();
+            inFlight.acquire(concurrentRequests);
+            inFlight.release(concurrentRequests);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for bulk requests to complete");
+        }
+    }
+
+    public Result result() {
+        return new Result(indexed.get(), failed.get(), requests.get(), firstFailure.get());
+    }
+
+    private Batch drain() {
+        if (bufferedActions == 0) {
+            return null;
+        }
+        Batch batch = new Batch(buffer.toString(), bufferedActions);
+        buffer = new StringBuilder(batch.body().length());
+        bufferedActions = 0;
+        return batch;
+    }
+
+    private void periodicFlush() {
+        try {
+            flush();
+        } catch (IOException e) {
+            LOG.warn("Periodic bulk flush failed", e);
+        }
+    }
+
+    private void send(Batch batch) throws IOException {
+        if (batch == null) {
+            return;
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a bulk request slot");
+        }
+
+        Request request = new Request("POST", "/_bulk");
+        request.setEntity(new StringEntity(batch.body(), NDJSON));
+        requests.incrementAndGet();
+        restClient.performRequestAsync(request, new ResponseListener() {
+            @Override
+            public void onSuccess(Response response) {
+                try {
+                    long failures = countFailedItems(response.getEntity().getContent());
+                    indexed.addAndGet(batch.actions() - failures);
+                    failed.addAndGet(failures);
+                } catch (IOException e) {
+                    recordFailure(batch, e);
+                } finally {
+                    inFlight.release();
+                }
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                try {
+                    recordFailure(batch, exception);
+                } finally {
+                    inFlight.release();
+                }
+            }
+        });
+    }
+
+    private void recordFailure(Batch batch, Exception exception) {
+        failed.addAndGet(batch.actions());
+        firstFailure.compareAndSet(null, exception.getMessage());
+    }
+
+    /**
+     * Walks the `items` of a bulk response without materializing it and counts the ones that report an `error`.
+     */
+    private long countFailedItems(InputStream content) throws IOException {
+        long failures = 0;
+        try (JsonParser parser = objectMapper.createParser(content)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (!"items".equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    // each item is {"<operation>": {"_id": ..., "status": ..., "error": {...}}}
+                    parser.nextToken();
+                    parser.nextToken();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String itemField = parser.currentName();
+                        parser.nextToken();
+                        if ("error".equals(itemField)) {
+                            failures++;
+                            firstFailure.compareAndSet(null, parser.readValueAsTree().toString());
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    parser.nextToken();
+                }
+            }
+        }
+        return failures;
+    }
+
+    private record Batch(String body, int actions) {
+    }
+
+    public record Result(long indexed, long failed, long requests, String firstFailure) {
+    }
+}
@@ -1,26 +1,41 @@
 package io.quarkus.ts.elasticsearch;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import org.jboss.resteasy.reactive.RestQuery;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import io.vertx.core.json.JsonObject;
+
 @Path("/fruits")
 public class FruitResource {
 
     @Inject
     FruitService fruitService;
 
+    @Inject
+    ObjectMapper objectMapper;
+
     @POST
     public Response index(Fruit fruit) throws IOException {
         if (fruit.id == null) {
@@ -42,6 +57,19 @@ public class FruitResource {
         fruitService.delete(id);
     }
 
+    @POST
+    @Path("/bulk")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public JsonObject bulkIndex(InputStream fruits, @RestQuery boolean refresh) throws IOException {
+        BulkIndexer.Result result = fruitService.bulkIndex(fruits, refresh);
+        return new JsonObject()
+                .put("indexed", result.indexed())
+                .put("failed", result.failed())
+                .put("requests", result.requests())
+                .put("firstFailure", result.firstFailure());
+    }
+
     @GET
     @Path("/search")
     public List<Fruit> search(@RestQuery String name, @RestQuery String color) throws IOException {
@@ -53,4 +81,27 @@ public class FruitResource {
             throw new BadRequestException("Should provide name or color query parameter");
         }
     }
+
+    @GET
+    @Path("/search/all")
+    @Produces(MediaType.APPLICATION_JSON)
+    public StreamingOutput searchAll(@RestQuery String name, @RestQuery String color,
+            @RestQuery @DefaultValue("500") int pageSize) {
+        if (name == null && color == null) {
+            throw new BadRequestException("Should provide name or color query parameter");
+        }
+        String term = name != null ? "name" : "color";
+        String match = name != null ? name : color;
+        return output -> {
+            try (SequenceWriter writer = objectMapper.writer().writeValuesAsArray(output)) {
+                fruitService.searchAll(term, match, pageSize, fruit -> {
+                    try {
+                        writer.write(fruit);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
 }
@@ -1,25 +1,53 @@
 package io.quarkus.ts.elasticsearch;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import org.apache.http.util.EntityUtils;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 @ApplicationScoped
 public class FruitService {
+
+    private static final String INDEX = "fruits";
+    private static final String POINT_IN_TIME_KEEP_ALIVE = "1m";
+
     @Inject
     RestClient restClient;
 
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "app.fruits.bulk.max-actions", defaultValue = "1000")
+    int bulkMaxActions;
+
+    @ConfigProperty(name = "app.fruits.bulk.max-bytes", defaultValue = "5242880")
+    long bulkMaxBytes;
+
+    @ConfigProperty(name = "app.fruits.bulk.flush-interval", defaultValue = "1s")
+    Duration bulkFlushInterval;
+
+    @ConfigProperty(name = "app.fruits.bulk.concurrent-requests", defaultValue = "2")
+    int bulkConcurrentRequests;
+
     public void index(Fruit fruit) throws IOException {
         Request request = new Request(
                 "PUT",
@@ -53,26 +81,149 @@ public class FruitService {
         return search("name", name);
     }
 
+    /**
+     * Indexes a JSON array of fruits read element by element, so the request body is never held in memory at once.
+     */
+    public BulkIndexer.Result bulkIndex(InputStream fruits, boolean refresh) throws IOException {
+        BulkIndexer indexer = new BulkIndexer(restClient, objectMapper, INDEX, bulkMaxActions, bulkMaxBytes,
+                bulkFlushInterval, bulkConcurrentRequests);
+        try (indexer; JsonParser parser = objectMapper.createParser(fruits)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of fruits");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Fruit fruit = parser.readValueAs(Fruit.class);
+                if (fruit.id == null) {
+                    fruit.id = UUID.randomUUID().toString();
+                }
+                indexer.add(fruit.id, fruit);
+            }
+        }
+        if (refresh) {
+            restClient.performRequest(new Request("POST", "/" + INDEX + "/_refresh"));
+        }
+        return indexer.result();
+    }
+
+    /**
+     * Pages through all the matches with `search_after` over a point in time, so the pages are consistent with each
+     * other even if the index is modified meanwhile, and hands every fruit to the consumer as soon as it is parsed.
+     *
+     * @return the number of matching fruits
+     */
+    public long searchAll(String term, String match, int pageSize, Consumer<Fruit> consumer) throws IOException {
+        String pointInTime = openPointInTime();
+        long total = 0;
+        try {
+            JsonArray searchAfter = null;
+            while (true) {
+                JsonObject query = new JsonObject()
+                        .put("size", pageSize)
+                        .put("query", matchQuery(term, match))
+                        .put("pit", new JsonObject().put("id", pointInTime).put("keep_alive", POINT_IN_TIME_KEEP_ALIVE))
+                        .put("sort", new JsonArray().add(new JsonObject().put("_shard_doc", "asc")))
+                        .put("track_total_hits", false);
+                if (searchAfter != null) {
+                    query.put("search_after", searchAfter);
+                }
+                Request request = new Request("GET", "/_search");
+                request.setJsonEntity(query.encode());
+                Response response = restClient.performRequest(request);
+
+                SearchPage page = readSearchPage(response.getEntity().getContent(), consumer);
+                total += page.hits();
+                if (page.pointInTime() != null) {
+                    pointInTime = page.pointInTime();
+                }
+                if (page.hits() < pageSize || page.lastSort() == null) {
+                    return total;
+                }
+                searchAfter = new JsonArray(page.lastSort());
+            }
+        } finally {
+            closePointInTime(pointInTime);
+        }
+    }
+
     private List<Fruit> search(String term, String match) throws IOException {
         Request request = new Request(
                 "GET",
                 "/fruits/_search");
         //construct a JSON query like {"query": {"match": {"<term>": "<match"}}
-        JsonObject termJson = new JsonObject().put(term, match);
-        JsonObject matchJson = new JsonObject().put("match", termJson);
-        JsonObject queryJson = new JsonObject().put("query", matchJson);
+        JsonObject queryJson = new JsonObject().put("query", matchQuery(term, match));
         request.setJsonEntity(queryJson.encode());
         Response response = restClient.performRequest(request);
-        String responseBody = EntityUtils.toString(response.getEntity());
 
-        JsonObject json = new JsonObject(responseBody);
-        JsonArray hits = json.getJsonObject("hits").getJsonArray("hits");
-        List<Fruit> results = new ArrayList<>(hits.size());
-        for (int i = 0; i < hits.size(); i++) {
-            JsonObject hit = hits.getJsonObject(i);
-            Fruit fruit = hit.getJsonObject("_source").mapTo(Fruit.class);
-            results.add(fruit);
-        }
+        List<Fruit> results = new ArrayList<>();
+        readSearchPage(response.getEntity().getContent(), results::add);
         return results;
     }
+
+    private static JsonObject matchQuery(String term, String match) {
+        JsonObject termJson = new JsonObject().put(term, match);
+        return new JsonObject().put("match", termJson);
+    }
+
+    private String openPointInTime() throws IOException {
+        Request request = new Request("POST", "/" + INDEX + "/_pit");
+        request.addParameter("keep_alive", POINT_IN_TIME_KEEP_ALIVE);
+        Response response = restClient.performRequest(request);
+        return new JsonObject(EntityUtils.toString(response.getEntity())).getString("id");
+    }
+
+    private void closePointInTime(String pointInTime) throws IOException {
+        Request request = new Request("DELETE", "/_pit");
+        request.setJsonEntity(new JsonObject().put("id", pointInTime).encode());
+        restClient.performRequest(request);
+    }
+
+    /**
+     * Reads a search response token by token: every `_source` is bound to a fruit right away and the rest of the
+     * response is skipped, instead of building a JSON tree of the whole page first.
+     */
+    @SuppressWarnings("unchecked")
+    private SearchPage readSearchPage(InputStream content, Consumer<Fruit> consumer) throws IOException {
+        String pointInTime = null;
+        int hits = 0;
+        List<Object> lastSort = null;
+        try (JsonParser parser = objectMapper.createParser(content)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("pit_id".equals(field)) {
+                    pointInTime = parser.getText();
+                } else if ("hits".equals(field)) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String hitsField = parser.currentName();
+                        parser.nextToken();
+                        if (!"hits".equals(hitsField)) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                String hitField = parser.currentName();
+                                parser.nextToken();
+                                if ("_source".equals(hitField)) {
+                                    consumer.accept(parser.readValueAs(Fruit.class));
+                                } else if ("sort".equals(hitField)) {
+                                    lastSort = parser.readValueAs(List.class);
+                                } else {
+                                    parser.skipChildren();
+                                }
+                            }
+                            hits++;
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new SearchPage(pointInTime, hits, lastSort);
+    }
+
+    private record SearchPage(String pointInTime, int hits, List<Object> lastSort) {
+    }
 }
@@ -5,11 +5,15 @@ import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.Test;
@@ -28,6 +32,7 @@ import io.vertx.core.json.JsonObject;
 public class ElasticsearchIT {
 
     static final int ELASTIC_PORT = 9200;
+    static final int BULK_FRUITS = 5_000;
 
     @Container(image = "${elastic.7x.image}", port = ELASTIC_PORT, expectedLog = "started")
     static DefaultService elastic = new DefaultService()
@@ -86,6 +91,38 @@ public class ElasticsearchIT {
         });
     }
 
+    @Test
+    void bulkIndexAndSearchAfter() {
+        List<Fruit> fruits = IntStream.range(0, BULK_FRUITS)
+                .mapToObj(i -> new Fruit("bulk fruit " + i, "crimson"))
+                .toList();
+
+        Response bulk = given()
+                .contentType(ContentType.JSON)
+                .body(fruits)
+                .queryParam("refresh", true)
+                .when()
+                .post("fruits/bulk");
+        bulk.then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("indexed", is(BULK_FRUITS))
+                .body("failed", is(0));
+        // 1000 actions per bulk request at most
+        assertTrue(bulk.jsonPath().getInt("requests") >= BULK_FRUITS / 1000);
+
+        List<String> ids = given()
+                .queryParam("color", "crimson")
+                .queryParam("pageSize", 300)
+                .when()
+                .get("fruits/search/all")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().jsonPath().getList("id", String.class);
+        assertEquals(BULK_FRUITS, ids.size());
+        assertEquals(fruits.stream().map(fruit -> fruit.id).collect(Collectors.toSet()),
+                new HashSet<>(ids));
+    }
+
     @Test
     void dataTypesCheck() {
         DataTypes fooDataTypes = new DataTypes();
@@ -2,6 +2,10 @@ package io.quarkus.ts.nosqldb.mongodb;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.inject.Inject;
 
@@ -10,6 +14,7 @@ import org.bson.conversions.Bson;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
 
 public abstract class AbstractCodecMongoDao<E> implements MongoDaoInterface {
 
@@ -26,10 +31,31 @@ public abstract class AbstractCodecMongoDao<E> implements MongoDaoInterface {
         return list;
     }
 
+    /**
+     * Entities are decoded by their codec straight from the BSON stream, without an intermediate `Document`.
+     * The returned stream must be closed in order to release the server cursor.
+     */
+    protected Stream<E> stream(String collection, Bson filter, Bson projection, int batchSize, Class<E> clazz) {
+        MongoCursor<E> cursor = getCollection(collection, clazz).find(filter).projection(projection)
+                .batchSize(batchSize).iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
     protected void add(String collection, Class<E> clazz, E document) {
         getCollection(collection, clazz).insertOne(document);
     }
 
+    protected void addAll(String collection, Class<E> clazz, List<E> documents, boolean ordered) {
+        if (!documents.isEmpty()) {
+            getCollection(collection, clazz).insertMany(documents, new InsertManyOptions().ordered(ordered));
+        }
+    }
+
+    protected void drop(String collection, Class<E> clazz) {
+        getCollection(collection, clazz).drop();
+    }
+
     private MongoCollection<E> getCollection(String collection, Class<E> clazz) {
         return mongoClient.getDatabase(FRUIT_DB_NAME).getCollection(collection, clazz);
     }
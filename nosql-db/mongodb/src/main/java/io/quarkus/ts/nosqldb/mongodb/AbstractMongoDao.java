@@ -2,7 +2,11 @@ package io.quarkus.ts.nosqldb.mongodb;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.inject.Inject;
 
@@ -12,6 +16,7 @@ import org.bson.conversions.Bson;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
 
 public abstract class AbstractMongoDao<E> implements MongoDaoInterface {
 
@@ -28,10 +33,37 @@ public abstract class AbstractMongoDao<E> implements MongoDaoInterface {
         return list;
     }
 
+    /**
+     * Converts documents lazily while the cursor is consumed, fetching `batchSize` documents per round trip.
+     * The returned stream must be closed in order to release the server cursor.
+     */
+    protected Stream<E> stream(String collection, Bson filter, Bson projection, int batchSize,
+            Function<Document, E> converter) {
+        MongoCursor<Document> cursor = getCollection(collection).find(filter).projection(projection)
+                .batchSize(batchSize).iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close)
+                .map(converter);
+    }
+
     protected void add(String collection, Document document) {
         getCollection(collection).insertOne(document);
     }
 
+    /**
+     * Inserts all the documents in as few round trips as the driver allows. Unordered inserts keep going after a
+     * failed document and let the server apply the writes in parallel.
+     */
+    protected void addAll(String collection, List<Document> documents, boolean ordered) {
+        if (!documents.isEmpty()) {
+            getCollection(collection).insertMany(documents, new InsertManyOptions().ordered(ordered));
+        }
+    }
+
+    protected void drop(String collection) {
+        getCollection(collection).drop();
+    }
+
     private MongoCollection<Document> getCollection(String collection) {
         return mongoClient.getDatabase(FRUIT_DB_NAME).getCollection(collection);
     }
@@ -0,0 +1,26 @@
+package io.quarkus.ts.nosqldb.mongodb;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.mongodb.client.model.Filters;
+
+@ApplicationScoped
+public class BenchmarkCodecFruitService extends AbstractCodecMongoDao<Fruit> {
+
+    private static final String BENCHMARK_CODEC_FRUIT_COLLECTION_NAME = "benchmark_codec_fruit";
+
+    public Stream<Fruit> streamFruits(int batchSize) {
+        return stream(BENCHMARK_CODEC_FRUIT_COLLECTION_NAME, Filters.empty(), null, batchSize, Fruit.class);
+    }
+
+    public void addFruits(List<Fruit> fruits, boolean ordered) {
+        addAll(BENCHMARK_CODEC_FRUIT_COLLECTION_NAME, Fruit.class, fruits, ordered);
+    }
+
+    public void deleteFruits() {
+        drop(BENCHMARK_CODEC_FRUIT_COLLECTION_NAME, Fruit.class);
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.ts.nosqldb.mongodb;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.mongodb.client.model.Filters;
+
+@ApplicationScoped
+public class BenchmarkFruitService extends AbstractMongoDao<Fruit> {
+
+    private static final String BENCHMARK_FRUIT_COLLECTION_NAME = "benchmark_fruit";
+
+    public List<Fruit> listFruits() {
+        return find(BENCHMARK_FRUIT_COLLECTION_NAME, Filters.empty(), null, Fruit::fromDocument);
+    }
+
+    public Stream<Fruit> streamFruits(int batchSize) {
+        return stream(BENCHMARK_FRUIT_COLLECTION_NAME, Filters.empty(), null, batchSize, Fruit::fromDocument);
+    }
+
+    public void addFruit(Fruit fruit) {
+        add(BENCHMARK_FRUIT_COLLECTION_NAME, fruit.toDocument());
+    }
+
+    public void addFruits(List<Fruit> fruits, boolean ordered) {
+        addAll(BENCHMARK_FRUIT_COLLECTION_NAME, fruits.stream().map(Fruit::toDocument).toList(), ordered);
+    }
+
+    public void deleteFruits() {
+        drop(BENCHMARK_FRUIT_COLLECTION_NAME);
+    }
+}
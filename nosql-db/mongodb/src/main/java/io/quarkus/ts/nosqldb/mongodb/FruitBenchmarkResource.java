@@ -0,0 +1,126 @@
+package io.quarkus.ts.nosqldb.mongodb;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares single inserts and fully materialized reads with bulk inserts and lazily streamed reads, both through
+ * `Document` conversion and through the codec-only path.
+ */
+@Path("/fruits/benchmark")
+@Produces(MediaType.APPLICATION_JSON)
+public class FruitBenchmarkResource {
+
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    @Inject
+    BenchmarkFruitService fruitService;
+
+    @Inject
+    BenchmarkCodecFruitService codecFruitService;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @POST
+    @Path("/{count}")
+    public JsonObject benchmark(@PathParam("count") int count,
+            @QueryParam("batchSize") @DefaultValue("" + DEFAULT_BATCH_SIZE) int batchSize) {
+        List<Fruit> fruits = IntStream.range(0, count)
+                .mapToObj(i -> new Fruit("fruit" + i, "fruit description " + i))
+                .toList();
+        JsonObject results = new JsonObject();
+
+        fruitService.deleteFruits();
+        results.put("insertOne", measure(() -> {
+            fruits.forEach(fruitService::addFruit);
+            return count;
+        }));
+
+        fruitService.deleteFruits();
+        results.put("insertMany", measure(() -> {
+            fruitService.addFruits(fruits, false);
+            return count;
+        }));
+
+        codecFruitService.deleteFruits();
+        results.put("codecInsertMany", measure(() -> {
+            codecFruitService.addFruits(fruits, false);
+            return count;
+        }));
+
+        results.put("findAsList", measure(() -> fruitService.listFruits().size()));
+        results.put("stream", measure(() -> {
+            try (Stream<Fruit> stream = fruitService.streamFruits(batchSize)) {
+                return stream.count();
+            }
+        }));
+        results.put("codecStream", measure(() -> {
+            try (Stream<Fruit> stream = codecFruitService.streamFruits(batchSize)) {
+                return stream.count();
+            }
+        }));
+
+        return results;
+    }
+
+    @GET
+    @Path("/stream")
+    public StreamingOutput streamFruits(@QueryParam("batchSize") @DefaultValue("" + DEFAULT_BATCH_SIZE) int batchSize) {
+        return output -> {
+            try (Stream<Fruit> fruits = codecFruitService.streamFruits(batchSize);
+                    SequenceWriter writer = objectMapper.writer().writeValuesAsArray(output)) {
+                for (Fruit fruit : (Iterable<Fruit>) fruits::iterator) {
+                    writer.write(fruit);
+                }
+            }
+        };
+    }
+
+    private static JsonObject measure(LongSupplier task) {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long documents = task.getAsLong();
+        long elapsed = System.nanoTime() - start;
+        long allocatedAfter = allocatedBytes();
+
+        return new JsonObject()
+                .put("documents", documents)
+                .put("millis", elapsed / 1_000_000)
+                .put("allocatedBytes", allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore);
+    }
+
+    /**
+     * @return bytes allocated by the current thread, or -1 when the JVM cannot report them (e.g. in native mode)
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationBean.getCurrentThreadAllocatedBytes();
+        }
+
+        return -1;
+    }
+}
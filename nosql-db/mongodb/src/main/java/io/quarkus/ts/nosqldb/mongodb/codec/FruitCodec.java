@@ -4,29 +4,30 @@ import java.util.UUID;
 
 import org.bson.BsonReader;
 import org.bson.BsonString;
+import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
-import org.bson.Document;
-import org.bson.codecs.Codec;
 import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 
-import com.mongodb.MongoClientSettings;
-
 import io.quarkus.ts.nosqldb.mongodb.Fruit;
 
+/**
+ * Reads and writes fruit fields straight from/to the BSON stream, so no intermediate `Document` is allocated.
+ */
 public class FruitCodec implements CollectibleCodec<Fruit> {
 
-    private final Codec<Document> documentCodec;
-
-    public FruitCodec() {
-        this.documentCodec = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
-    }
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ID = "id";
 
     @Override
     public void encode(BsonWriter writer, Fruit fruit, EncoderContext encoderContext) {
-        documentCodec.encode(writer, fruit.toDocument(), encoderContext);
+        writer.writeStartDocument();
+        writeString(writer, NAME, fruit.getName());
+        writeString(writer, DESCRIPTION, fruit.getDescription());
+        writer.writeEndDocument();
     }
 
     @Override
@@ -54,11 +55,32 @@ public class FruitCodec implements CollectibleCodec<Fruit> {
 
     @Override
     public Fruit decode(BsonReader reader, DecoderContext decoderContext) {
-        Document document = documentCodec.decode(reader, decoderContext);
-        Fruit fruit = Fruit.fromDocument(document);
-        if (document.getString("id") != null) {
-            fruit.setId(document.getString("id"));
+        Fruit fruit = new Fruit();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String fieldName = reader.readName();
+            if (reader.getCurrentBsonType() != BsonType.STRING) {
+                reader.skipValue();
+                continue;
+            }
+
+            switch (fieldName) {
+                case NAME -> fruit.setName(reader.readString());
+                case DESCRIPTION -> fruit.setDescription(reader.readString());
+                case ID -> fruit.setId(reader.readString());
+                default -> reader.skipValue();
+            }
         }
+        reader.readEndDocument();
         return fruit;
     }
+
+    private static void writeString(BsonWriter writer, String name, String value) {
+        writer.writeName(name);
+        if (value == null) {
+            writer.writeNull();
+        } else {
+            writer.writeString(value);
+        }
+    }
 }
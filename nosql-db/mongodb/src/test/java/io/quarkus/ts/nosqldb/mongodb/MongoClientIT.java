@@ -19,6 +19,8 @@ import io.restassured.path.json.JsonPath;
 @QuarkusScenario
 public class MongoClientIT {
 
+    private static final int BENCHMARK_FRUITS = 100_000;
+
     @Container(image = "${mongodb.image}", port = 27017, expectedLog = "Waiting for connections")
     static MongoDbService database = new MongoDbService();
 
@@ -108,6 +110,42 @@ public class MongoClientIT {
         assertThat(fruitBaskets3.get(0).getItems()).isEqualTo(fruitBasket3.getItems());
     }
 
+    @Test
+    public void bulkInsertAndStreamedReadBenchmark() {
+        JsonPath results = RestAssured.given()
+                .queryParam("batchSize", 1_000)
+                .post("/fruits/benchmark/" + BENCHMARK_FRUITS)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().body().jsonPath();
+
+        List<String> strategies = List.of("insertOne", "insertMany", "codecInsertMany",
+                "findAsList", "stream", "codecStream");
+        for (String strategy : strategies) {
+            assertThat(results.getLong(strategy + ".documents")).as(strategy).isEqualTo(BENCHMARK_FRUITS);
+        }
+        assertThat(results.getLong("insertMany.millis"))
+                .as("Bulk insert should be faster than inserting one document at a time")
+                .isLessThan(results.getLong("insertOne.millis"));
+
+        long listAllocatedBytes = results.getLong("findAsList.allocatedBytes");
+        long codecStreamAllocatedBytes = results.getLong("codecStream.allocatedBytes");
+        if (listAllocatedBytes >= 0 && codecStreamAllocatedBytes >= 0) {
+            assertThat(codecStreamAllocatedBytes)
+                    .as("Streaming through the codec should allocate less than materializing documents in a list")
+                    .isLessThan(listAllocatedBytes);
+        }
+
+        List<Fruit> streamed = RestAssured.given()
+                .queryParam("batchSize", 500)
+                .get("/fruits/benchmark/stream")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().body().jsonPath().getList(".", Fruit.class);
+        assertThat(streamed).hasSize(BENCHMARK_FRUITS);
+        assertThat(streamed).contains(new Fruit("fruit0", null), new Fruit("fruit" + (BENCHMARK_FRUITS - 1), null));
+    }
+
     private List<Fruit> postFruit(String path, Fruit fruit) {
         return postEntity(path, fruit).getList(".", Fruit.class);
     }
@@ -12,6 +12,7 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
@@ -37,6 +38,8 @@ import io.vertx.core.json.JsonObject;
 @Path("")
 public class Application {
 
+    private static final int STREAM_FRAGMENTS_PER_CHUNK = 256;
+
     @Inject
     Template basic;
 
@@ -46,6 +49,9 @@ public class Application {
     @Inject
     Engine engine;
 
+    @Inject
+    ParsedTemplateCache templateCache;
+
     @Localized("he")
     Messages hebrew;
 
@@ -74,13 +80,32 @@ public class Application {
         return Response.ok(template.data("server", name + " engine")).build();
     }
 
+    /**
+     * Same as {@link #engine(String)}, but chunks are written to the response as the template produces them instead of
+     * rendering the whole page into a String first.
+     */
+    @GET
+    @Path("/engine/{name}/stream")
+    @Produces(MediaType.TEXT_HTML)
+    public Multi<String> stream(@PathParam("name") String name) {
+        final Template template = engine.getTemplate(name);
+        if (template == null) {
+            throw new NotFoundException();
+        }
+        // Qute emits every text node and expression separately, group them to avoid a write per tiny fragment
+        return template.data("server", name + " engine")
+                .createMulti()
+                .group().intoLists().of(STREAM_FRAGMENTS_PER_CHUNK)
+                .map(fragments -> String.join("", fragments));
+    }
+
     @POST
     @Path("/engine/{name}")
     @Produces(MediaType.TEXT_HTML)
     public Response registerNew(@PathParam("name") String name, String body) {
         Response.ResponseBuilder result;
         if (engine.getTemplate(name) == null) {
-            engine.putTemplate(name, engine.parse(body));
+            engine.putTemplate(name, templateCache.parse(body));
             result = Response.created(getUri("/engine/" + name));
         } else {
             result = Response.status(Response.Status.CONFLICT);
@@ -92,7 +117,7 @@ public class Application {
     @Path("/engine/{name}")
     @Produces(MediaType.TEXT_HTML)
     public Response register(@PathParam("name") String name, String body) {
-        Template existing = engine.putTemplate(name, engine.parse(body));
+        Template existing = engine.putTemplate(name, templateCache.parse(body));
         if (existing == null) {
             return Response.created(getUri("/engine/" + name)).build();
         } else {
@@ -108,6 +133,13 @@ public class Application {
         return Response.ok().build();
     }
 
+    @GET
+    @Path("/template-cache")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String templateCacheStats() {
+        return templateCache.stats();
+    }
+
     @GET
     @Path("/format")
     @Produces({ MediaType.TEXT_HTML, MediaType.TEXT_PLAIN })
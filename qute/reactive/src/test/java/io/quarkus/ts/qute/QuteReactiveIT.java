@@ -4,6 +4,13 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
@@ -11,8 +18,10 @@ import java.util.stream.Stream;
 import jakarta.ws.rs.core.MediaType;
 
 import org.apache.http.HttpStatus;
+import org.jboss.logging.Logger;
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.test.bootstrap.Protocol;
 import io.quarkus.test.bootstrap.RestService;
 import io.quarkus.test.scenarios.QuarkusScenario;
 import io.quarkus.test.scenarios.annotations.DisabledOnNative;
@@ -22,6 +31,11 @@ import io.restassured.response.Response;
 @QuarkusScenario
 public class QuteReactiveIT {
 
+    private static final Logger LOG = Logger.getLogger(QuteReactiveIT.class);
+    private static final int LARGE_PAGE_ROWS = 55_000;
+    private static final int LARGE_PAGE_MIN_LENGTH = 5 * 1024 * 1024;
+    private static final int TTFB_ROUNDS = 3;
+
     private static final String UTF8_HTML = utf8(MediaType.TEXT_HTML);
     private static final String UTF8_TEXT = utf8(MediaType.TEXT_PLAIN);
 
@@ -107,6 +121,64 @@ public class QuteReactiveIT {
         assertEquals(HttpStatus.SC_NOT_FOUND, checkDeletion.statusCode());
     }
 
+    @Test
+    void parsedTemplateCache() {
+        String body = "This page is rendered by {server} from a cached template";
+        assertEquals(HttpStatus.SC_CREATED, app.given().body(body).put("/engine/cached-first").statusCode());
+        long hits = templateCacheHits();
+
+        assertEquals(HttpStatus.SC_CREATED, app.given().body(body).put("/engine/cached-second").statusCode());
+        assertEquals(hits + 1, templateCacheHits(), "Same content should not be parsed twice");
+        assertEquals("This page is rendered by cached-second engine from a cached template",
+                app.given().get("/engine/cached-second").body().asString());
+    }
+
+    @Test
+    void streamLargePage() throws IOException, InterruptedException {
+        String row = "<p>Row {i} of a large page is rendered by {server}, padded to add up to about five megabytes</p>\n";
+        Response create = app.given().body("{#for i in " + LARGE_PAGE_ROWS + "}" + row + "{/for}").put("/engine/large");
+        assertEquals(HttpStatus.SC_CREATED, create.statusCode());
+
+        String buffered = app.given().get("/engine/large").body().asString();
+        Response streamed = app.given().get("/engine/large/stream");
+        assertEquals(HttpStatus.SC_OK, streamed.statusCode());
+        assertEquals("chunked", streamed.header("Transfer-Encoding"));
+        assertTrue(buffered.length() > LARGE_PAGE_MIN_LENGTH, "Page should be larger than 5 MB: " + buffered.length());
+        assertEquals(buffered, streamed.body().asString());
+
+        long bufferedTtfb = timeToFirstByte("/engine/large");
+        long streamedTtfb = timeToFirstByte("/engine/large/stream");
+        LOG.infof("Time to first byte of a %d bytes page: buffered %d ms, streamed %d ms",
+                buffered.length(), bufferedTtfb, streamedTtfb);
+        assertTrue(streamedTtfb < bufferedTtfb,
+                "Streamed render (" + streamedTtfb + " ms) should start sooner than buffered one (" + bufferedTtfb + " ms)");
+    }
+
+    private long templateCacheHits() {
+        String stats = app.given().get("/template-cache").body().asString();
+        return Long.parseLong(stats.substring("hits=".length(), stats.indexOf(',')));
+    }
+
+    /**
+     * @return the best time to first byte in milliseconds, reading the rest of the body is not measured
+     */
+    private long timeToFirstByte(String path) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        URI uri = URI.create(app.getURI(Protocol.HTTP).withPath(path).toString());
+        HttpRequest request = HttpRequest.newBuilder(uri).version(HttpClient.Version.HTTP_1_1).build();
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < TTFB_ROUNDS; round++) {
+            long start = System.nanoTime();
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                assertTrue(body.read() >= 0);
+                best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+        return best;
+    }
+
     @Test
     void format() {
         Response defaultType = app.given().get("/format?name=remote client");
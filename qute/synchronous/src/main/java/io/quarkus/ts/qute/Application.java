@@ -1,10 +1,16 @@
 package io.quarkus.ts.qute;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 import jakarta.inject.Inject;
 import jakarta.ws.rs.DELETE;
@@ -18,6 +24,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -41,6 +48,9 @@ public class Application {
     @Inject
     Engine engine;
 
+    @Inject
+    ParsedTemplateCache templateCache;
+
     @Localized("he")
     Messages hebrew;
 
@@ -69,13 +79,47 @@ public class Application {
         return Response.ok(template.data("server", name + " engine")).build();
     }
 
+    /**
+     * Same as {@link #engine(String)}, but chunks are written to the response as the template produces them instead of
+     * rendering the whole page into a String first.
+     */
+    @GET
+    @Path("/engine/{name}/stream")
+    @Produces(MediaType.TEXT_HTML)
+    public Response stream(@PathParam("name") String name) {
+        final Template template = engine.getTemplate(name);
+        if (template == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        final TemplateInstance instance = template.data("server", name + " engine");
+        StreamingOutput output = stream -> {
+            Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+            try {
+                instance.consume(chunk -> {
+                    try {
+                        writer.write(chunk);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }).toCompletableFuture().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException failure) {
+                    throw failure.getCause();
+                }
+                throw e;
+            }
+            writer.flush();
+        };
+        return Response.ok(output).build();
+    }
+
     @POST
     @Path("/engine/{name}")
     @Produces(MediaType.TEXT_HTML)
     public Response registerNew(@PathParam("name") String name, String body) {
         Response.ResponseBuilder result;
         if (engine.getTemplate(name) == null) {
-            engine.putTemplate(name, engine.parse(body));
+            engine.putTemplate(name, templateCache.parse(body));
             result = Response.created(getUri("/engine/" + name));
         } else {
             result = Response.status(Response.Status.CONFLICT);
@@ -87,7 +131,7 @@ public class Application {
     @Path("/engine/{name}")
     @Produces(MediaType.TEXT_HTML)
     public Response register(@PathParam("name") String name, String body) {
-        Template existing = engine.putTemplate(name, engine.parse(body));
+        Template existing = engine.putTemplate(name, templateCache.parse(body));
         if (existing == null) {
             return Response.created(getUri("/engine/" + name)).build();
         } else {
@@ -103,6 +147,13 @@ public class Application {
         return Response.ok().build();
     }
 
+    @GET
+    @Path("/template-cache")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String templateCacheStats() {
+        return templateCache.stats();
+    }
+
     @GET
     @Path("/format")
     @Produces({ MediaType.TEXT_HTML, MediaType.TEXT_PLAIN })
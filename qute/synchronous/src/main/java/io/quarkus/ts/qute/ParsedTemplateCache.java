@@ -0,0 +1,71 @@
+package io.quarkus.ts.qute;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+
+/**
+ * Keeps parsed templates keyed by the SHA-256 of their source, so registering the same content again (under the same or
+ * a different name) does not parse it again. The least recently used template is evicted once the cache is full.
+ */
+@ApplicationScoped
+public class ParsedTemplateCache {
+
+    private final Engine engine;
+    private final Map<String, Template> templates;
+    private long hits;
+    private long misses;
+
+    @Inject
+    public ParsedTemplateCache(Engine engine,
+            @ConfigProperty(name = "app.qute.parsed-template-cache.max-size", defaultValue = "256") int maxSize) {
+        this.engine = engine;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public Template parse(String content) {
+        String key = hash(content);
+        synchronized (templates) {
+            Template template = templates.get(key);
+            if (template != null) {
+                hits++;
+                return template;
+            }
+            misses++;
+            template = engine.parse(content);
+            templates.put(key, template);
+            return template;
+        }
+    }
+
+    public String stats() {
+        synchronized (templates) {
+            return "hits=" + hits + ", misses=" + misses + ", size=" + templates.size();
+        }
+    }
+
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
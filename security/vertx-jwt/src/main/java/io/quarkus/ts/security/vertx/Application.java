@@ -83,11 +83,13 @@ public class Application extends CommonApplication<HelloEvent> {
                 .subscribe().with((Long tick) -> eventBus.publish(ADDRESS, new HelloEvent(UUID.randomUUID().toString())));
 
         addRoute(HttpMethod.POST, "/bladeRunner", SECURE, rc -> bladeRunner.upsertBladeRunner(rc));
+        addRoute(HttpMethod.POST, "/bladeRunner/batch", SECURE, rc -> bladeRunner.upsertAllBladeRunner(rc));
         addRoute(HttpMethod.GET, "/bladeRunner/:id", SECURE, rc -> bladeRunner.getBladeRunnerById(rc));
         addRoute(HttpMethod.GET, "/bladeRunner", SECURE, rc -> bladeRunner.getAllBladeRunner(rc));
         addRoute(HttpMethod.DELETE, "/bladeRunner/:id", SECURE, rc -> bladeRunner.deleteBladeRunner(rc));
 
         addRoute(HttpMethod.POST, "/replicant", SECURE, rc -> replicant.upsertReplicant(rc));
+        addRoute(HttpMethod.POST, "/replicant/batch", SECURE, rc -> replicant.upsertAllReplicant(rc));
         addRoute(HttpMethod.GET, "/replicant/:id", NO_SECURE, rc -> replicant.getReplicantById(rc));
         addRoute(HttpMethod.GET, "/replicant", SECURE, rc -> replicant.getAllReplicant(rc));
         addRoute(HttpMethod.DELETE, "/replicant/:id", SECURE, rc -> replicant.deleteReplicant(rc));
@@ -2,6 +2,8 @@ package io.quarkus.ts.security.vertx.handlers;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 
+import java.util.List;
+
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -26,6 +28,17 @@ public class BladeRunnerHandler {
                         .end(new JsonObject().put("id", bladeRunner.getId()).encode()));
     }
 
+    public void upsertAllBladeRunner(final RoutingContext context) {
+        List<BladeRunner> bladeRunners = context.body().asJsonArray().stream()
+                .map(json -> ((JsonObject) json).mapTo(BladeRunner.class))
+                .toList();
+        bladeRunnerService.upsertAll(bladeRunners)
+                .onFailure().invoke(context::fail)
+                .subscribe().with(success -> context.response()
+                        .putHeader("Content-Type", "application/json")
+                        .end(new JsonObject().put("upserted", bladeRunners.size()).encode()));
+    }
+
     public void deleteBladeRunner(final RoutingContext context) {
         String id = context.request().getParam("id");
         bladeRunnerService.delete(id).onFailure().invoke(context::fail)
@@ -2,6 +2,8 @@ package io.quarkus.ts.security.vertx.handlers;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
 
+import java.util.List;
+
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -26,6 +28,17 @@ public class ReplicantHandler {
                         .end(new JsonObject().put("id", replicant.getId()).encode()));
     }
 
+    public void upsertAllReplicant(final RoutingContext context) {
+        List<Replicant> replicants = context.body().asJsonArray().stream()
+                .map(json -> ((JsonObject) json).mapTo(Replicant.class))
+                .toList();
+        replicantService.upsertAll(replicants)
+                .onFailure().invoke(context::fail)
+                .subscribe().with(success -> context.response()
+                        .putHeader("Content-Type", "application/json")
+                        .end(new JsonObject().put("upserted", replicants.size()).encode()));
+    }
+
     public void deleteReplicant(final RoutingContext context) {
         String id = context.request().getParam("id");
         replicantService.delete(id).onFailure().invoke(context::fail)
@@ -2,26 +2,41 @@ package io.quarkus.ts.security.vertx.services;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
 import io.quarkus.ts.security.vertx.exceptions.NotFoundException;
 import io.quarkus.ts.security.vertx.model.Record;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 public abstract class AbstractRedisDao<E extends Record> {
 
+    private static final String SCAN_START = "0";
+
     @Inject
     RedisAPI redisClient;
 
+    @Inject
+    Redis redis;
+
+    /**
+     * Keys requested per `SCAN` iteration and keys or commands sent per `MGET` or pipeline.
+     */
+    @ConfigProperty(name = "app.redis.batch-size", defaultValue = "100")
+    int batchSize;
+
     Class<E> type;
 
     String prefix;
@@ -36,6 +51,22 @@ public abstract class AbstractRedisDao<E extends Record> {
                 .onItem().transform(this::isPersisted);
     }
 
+    /**
+     * Sends the `SET` commands in pipelined batches, so persisting N entities takes N / batch size round trips.
+     */
+    public Uni<Boolean> upsertAll(List<E> entities) {
+        return Multi.createFrom().iterable(entities)
+                .onItem().transform(entity -> Request.cmd(Command.SET)
+                        .arg(buildKey(entity.getId()))
+                        .arg(entity.toJsonEncoded()))
+                .group().intoLists().of(batchSize)
+                .onItem().transformToUniAndConcatenate(commands -> redis.batch(commands))
+                .onItem().transformToIterable(responses -> responses)
+                .onItem().transform(this::isPersisted)
+                .collect().asList()
+                .replaceWith(true);
+    }
+
     public Uni<E> get(String key) {
         return redisClient.get(buildKey(key))
                 .onItem().ifNull().failWith(new NotFoundException("No item: " + key))
@@ -43,8 +74,10 @@ public abstract class AbstractRedisDao<E extends Record> {
     }
 
     public Uni<List<E>> get() {
-        Multi<E> objects = getKeys().onItem().transformToUniAndMerge(
-                key -> redisClient.get(key).onItem().ifNotNull().transform(item -> Record.decodeJSON(item.toString(), type)));
+        Multi<E> objects = getKeys()
+                .group().intoLists().of(batchSize)
+                .onItem().transformToUniAndConcatenate(keys -> redisClient.mget(keys))
+                .onItem().transformToIterable(this::decodeValues);
         return objects.collect().in(ArrayList::new, List::add);
     }
 
@@ -60,10 +93,31 @@ public abstract class AbstractRedisDao<E extends Record> {
         return Stream.of(keys).map(this::buildKey).collect(Collectors.toList());
     }
 
+    /**
+     * Iterates the keyspace with `SCAN` instead of `KEYS`, which would block Redis while walking every key.
+     * SCAN may return a key more than once, hence the `distinct`.
+     */
     private Multi<String> getKeys() {
-        return redisClient.keys(buildKey("*"))
-                .onItem().transformToMulti(array -> Multi.createFrom().iterable(getKeysValues(array)))
-                .onItem().castTo(String.class);
+        return Multi.createBy().repeating()
+                .uni(() -> new AtomicReference<>(SCAN_START),
+                        cursor -> redisClient.scan(List.of(cursor.get(), "MATCH", buildKey("*"),
+                                "COUNT", String.valueOf(batchSize)))
+                                .invoke(page -> cursor.set(page.get(0).toString())))
+                .whilst(page -> !SCAN_START.equals(page.get(0).toString()))
+                .onItem().transformToIterable(page -> getKeysValues(page.get(1)))
+                .select().distinct();
+    }
+
+    private List<E> decodeValues(Response values) {
+        List<E> entities = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Response value = values.get(i);
+            // the key may have been deleted since it was scanned
+            if (value != null) {
+                entities.add(Record.decodeJSON(value.toString(), type));
+            }
+        }
+        return entities;
     }
 
     private boolean isDeleted(Response resp) {
@@ -80,8 +134,8 @@ public abstract class AbstractRedisDao<E extends Record> {
             throw new RuntimeException("Redis entity not persisted.");
     }
 
-    private Set<String> getKeysValues(Response response) {
-        final Set<String> keys = new HashSet<>();
+    private List<String> getKeysValues(Response response) {
+        final List<String> keys = new ArrayList<>(response.size());
         for (int i = 0; i < response.size(); i++) {
             keys.add(response.get(i).toString());
         }
@@ -1,14 +1,24 @@
 package io.quarkus.ts.security.vertx;
 
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.ts.security.vertx.model.Replicant;
 import io.restassured.http.ContentType;
+import io.vertx.core.json.JsonArray;
 
 @QuarkusScenario
 public class ReplicantHandlerIT extends AbstractCommonIT {
+
+    // more than two batches of app.redis.batch-size
+    private static final int BATCH_REPLICANTS = 250;
+
     @Test
     public void retrieveReplicantById() {
         app.given().accept(ContentType.JSON)
@@ -43,4 +53,41 @@ public class ReplicantHandlerIT extends AbstractCommonIT {
                 .then()
                 .statusCode(404);
     }
+
+    @Test
+    public void upsertAndRetrieveAllReplicantsInBatches() {
+        List<Replicant> replicants = IntStream.range(0, BATCH_REPLICANTS).mapToObj(i -> {
+            Replicant batchReplicant = defaultReplicant();
+            batchReplicant.setName("Replicant " + i);
+            return batchReplicant;
+        }).toList();
+        JsonArray body = new JsonArray();
+        replicants.forEach(batchReplicant -> body.add(batchReplicant.toJson()));
+
+        try {
+            app.given().accept(ContentType.JSON)
+                    .headers("Authorization", "Bearer " + JWT(Invalidity.EMPTY, "admin"))
+                    .body(body.encode())
+                    .when()
+                    .post("/replicant/batch")
+                    .then()
+                    .statusCode(200)
+                    .body("upserted", is(BATCH_REPLICANTS));
+
+            app.given().accept(ContentType.JSON)
+                    .headers("Authorization", "Bearer " + JWT(Invalidity.EMPTY, "admin"))
+                    .when()
+                    .get("/replicant/")
+                    .then()
+                    .statusCode(200)
+                    .body("size()", is(BATCH_REPLICANTS + 1))
+                    .body("id", hasItems(replicant.getId(), replicants.get(0).getId(),
+                            replicants.get(BATCH_REPLICANTS - 1).getId()));
+        } finally {
+            replicants.forEach(batchReplicant -> app.given().accept(ContentType.JSON)
+                    .headers("Authorization", "Bearer " + JWT(Invalidity.EMPTY, "admin"))
+                    .when()
+                    .delete("/replicant/" + batchReplicant.getId()));
+        }
+    }
 }
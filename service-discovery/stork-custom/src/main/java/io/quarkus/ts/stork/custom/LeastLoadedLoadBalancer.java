@@ -0,0 +1,87 @@
+package io.quarkus.ts.stork.custom;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.smallrye.stork.api.LoadBalancer;
+import io.smallrye.stork.api.NoServiceInstanceFoundException;
+import io.smallrye.stork.api.ServiceInstance;
+
+/**
+ * Power of two choices: picks two instances at random and returns the one with the lower expected cost, which is the
+ * response time EWMA multiplied by the requests in flight plus one. Every selection returns a call of its own that
+ * gathers Stork's call statistics, so the duration of each call feeds back into the cost of the instance that served
+ * it.
+ */
+public class LeastLoadedLoadBalancer implements LoadBalancer {
+
+    private final long decayNanos;
+    private final Map<ServiceInstance, LoadTrackingServiceInstance> instances = new ConcurrentHashMap<>();
+
+    public LeastLoadedLoadBalancer(LeastLoadedConfiguration config) {
+        this.decayNanos = parseDuration(config.getDecayTime()).toNanos();
+    }
+
+    @Override
+    public ServiceInstance selectServiceInstance(Collection<ServiceInstance> serviceInstances) {
+        int size = serviceInstances.size();
+        if (size == 0) {
+            throw new NoServiceInstanceFoundException("No services found.");
+        }
+        if (size == 1) {
+            return tracked(serviceInstances.iterator().next()).newCall();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        LoadTrackingServiceInstance firstInstance = tracked(get(serviceInstances, first));
+        LoadTrackingServiceInstance secondInstance = tracked(get(serviceInstances, second));
+        long now = System.nanoTime();
+        LoadTrackingServiceInstance selected = firstInstance.cost(now) <= secondInstance.cost(now)
+                ? firstInstance
+                : secondInstance;
+        return selected.newCall();
+    }
+
+    private LoadTrackingServiceInstance tracked(ServiceInstance instance) {
+        LoadTrackingServiceInstance tracking = instances.get(instance);
+        if (tracking == null) {
+            tracking = instances.computeIfAbsent(instance, key -> new LoadTrackingServiceInstance(key, decayNanos));
+        }
+        return tracking;
+    }
+
+    private static ServiceInstance get(Collection<ServiceInstance> serviceInstances, int index) {
+        if (serviceInstances instanceof List<ServiceInstance> list) {
+            return list.get(index);
+        }
+        Iterator<ServiceInstance> iterator = serviceInstances.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    private static Duration parseDuration(String duration) {
+        String value = duration.trim().toUpperCase();
+        if (value.startsWith("P")) {
+            return Duration.parse(value);
+        }
+        if (value.endsWith("MS")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (Character.isDigit(value.charAt(value.length() - 1))) {
+            return Duration.ofSeconds(Long.parseLong(value));
+        }
+        return Duration.parse("PT" + value);
+    }
+}
@@ -0,0 +1,17 @@
+package io.quarkus.ts.stork.custom;
+
+import io.smallrye.stork.api.LoadBalancer;
+import io.smallrye.stork.api.ServiceDiscovery;
+import io.smallrye.stork.api.config.LoadBalancerAttribute;
+import io.smallrye.stork.api.config.LoadBalancerType;
+import io.smallrye.stork.spi.LoadBalancerProvider;
+
+@LoadBalancerType("least-loaded")
+@LoadBalancerAttribute(name = "decay-time", defaultValue = "10s", description = "Time after which past response times weigh about a third (1/e) as much as new ones.")
+public class LeastLoadedLoadBalancerProvider implements LoadBalancerProvider<LeastLoadedConfiguration> {
+    @Override
+    public LoadBalancer createLoadBalancer(LeastLoadedConfiguration config,
+            ServiceDiscovery serviceDiscovery) {
+        return new LeastLoadedLoadBalancer(config);
+    }
+}
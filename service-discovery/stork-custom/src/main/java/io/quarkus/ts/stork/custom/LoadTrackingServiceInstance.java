@@ -0,0 +1,166 @@
+package io.quarkus.ts.stork.custom;
+
+import java.util.Map;
+import java.util.Optional;
+
+import io.smallrye.stork.api.Metadata;
+import io.smallrye.stork.api.MetadataKey;
+import io.smallrye.stork.api.ServiceInstance;
+
+/**
+ * Service instance that keeps the number of calls in flight and a peak exponentially weighted moving average of their
+ * response time. Stork records the statistics on the instance returned by the load balancer, so every selection
+ * returns a {@link #newCall() call} of its own, which measures the duration of that single call.
+ */
+public class LoadTrackingServiceInstance implements ServiceInstance {
+
+    private final ServiceInstance delegate;
+    private final long decayNanos;
+
+    private int inFlight;
+    private double ewmaNanos;
+    private long lastSample;
+
+    public LoadTrackingServiceInstance(ServiceInstance delegate, long decayNanos) {
+        this.delegate = delegate;
+        this.decayNanos = decayNanos;
+    }
+
+    /**
+     * @return the response time EWMA of a single call, decayed towards zero since the last sample so that instances
+     *         that were slow are eventually tried again, multiplied by the calls in flight plus the one to be made
+     */
+    public synchronized double cost(long now) {
+        double decayed = ewmaNanos * Math.exp(-(double) (now - lastSample) / decayNanos);
+        return decayed * (inFlight + 1);
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized long averageResponseTimeNanos() {
+        return (long) ewmaNanos;
+    }
+
+    /**
+     * @return this instance as seen by a single call, to be returned from the load balancer
+     */
+    public ServiceInstance newCall() {
+        return new Call();
+    }
+
+    private synchronized void callStarted() {
+        inFlight++;
+    }
+
+    private synchronized void callEnded(long sample, long now) {
+        if (inFlight > 0) {
+            inFlight--;
+        }
+        if (lastSample == 0 || sample > ewmaNanos) {
+            // peak EWMA, a slower response is taken into account right away
+            ewmaNanos = sample;
+        } else {
+            double weight = Math.exp(-(double) (now - lastSample) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + sample * (1 - weight);
+        }
+        lastSample = now;
+    }
+
+    @Override
+    public long getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public String getHost() {
+        return delegate.getHost();
+    }
+
+    @Override
+    public int getPort() {
+        return delegate.getPort();
+    }
+
+    @Override
+    public Optional<String> getPath() {
+        return delegate.getPath();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return delegate.isSecure();
+    }
+
+    @Override
+    public Metadata<? extends MetadataKey> getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public Map<String, String> getLabels() {
+        return delegate.getLabels();
+    }
+
+    private final class Call implements ServiceInstance {
+
+        private boolean started;
+        private long start;
+
+        @Override
+        public boolean gatherStatistics() {
+            return true;
+        }
+
+        @Override
+        public void recordStart(boolean measureTime) {
+            start = System.nanoTime();
+            started = true;
+            callStarted();
+        }
+
+        @Override
+        public void recordEnd(Throwable failure) {
+            long now = System.nanoTime();
+            if (started) {
+                callEnded(now - start, now);
+            }
+        }
+
+        @Override
+        public long getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String getHost() {
+            return delegate.getHost();
+        }
+
+        @Override
+        public int getPort() {
+            return delegate.getPort();
+        }
+
+        @Override
+        public Optional<String> getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return delegate.isSecure();
+        }
+
+        @Override
+        public Metadata<? extends MetadataKey> getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public Map<String, String> getLabels() {
+            return delegate.getLabels();
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package io.quarkus.ts.stork.custom;
 
+import java.time.Duration;
+
 import jakarta.ws.rs.core.MediaType;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
 import io.quarkus.vertx.web.Route;
 import io.quarkus.vertx.web.RouteBase;
 import io.smallrye.mutiny.Uni;
@@ -11,8 +15,18 @@ public class PongReplicaResource {
 
     private static final String DEFAULT_PONG_REPLICA_RESPONSE = "pongReplica";
 
+    /**
+     * Artificial latency, to check that latency aware load balancers move traffic away from this replica.
+     */
+    @ConfigProperty(name = "pong.delay", defaultValue = "0ms")
+    Duration delay;
+
     @Route(path = "*", methods = Route.HttpMethod.GET)
     public Uni<String> pong() {
-        return Uni.createFrom().item(DEFAULT_PONG_REPLICA_RESPONSE);
+        Uni<String> pong = Uni.createFrom().item(DEFAULT_PONG_REPLICA_RESPONSE);
+        if (delay.isZero()) {
+            return pong;
+        }
+        return pong.onItem().delayIt().by(delay);
     }
 }
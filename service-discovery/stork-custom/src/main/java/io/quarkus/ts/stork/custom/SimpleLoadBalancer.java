@@ -1,7 +1,8 @@
 package io.quarkus.ts.stork.custom;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
 
 import io.smallrye.stork.api.LoadBalancer;
@@ -22,6 +23,13 @@ public class SimpleLoadBalancer implements LoadBalancer {
             throw new NoServiceInstanceFoundException("No services found.");
         }
         int index = random.nextInt(serviceInstances.size());
-        return new ArrayList<>(serviceInstances).get(index);
+        if (serviceInstances instanceof List<ServiceInstance> list) {
+            return list.get(index);
+        }
+        Iterator<ServiceInstance> iterator = serviceInstances.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        return iterator.next();
     }
 }
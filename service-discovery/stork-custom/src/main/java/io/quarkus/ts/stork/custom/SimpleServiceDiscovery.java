@@ -14,6 +14,12 @@ import io.smallrye.stork.utils.ServiceInstanceIds;
 public class SimpleServiceDiscovery implements ServiceDiscovery {
     private static final Map<String, String> globalConfig = new HashMap<>();
 
+    /**
+     * Created on the first lookup, once both services are configured, and reused afterward so instances keep their
+     * ids and load balancers can keep statistics about them.
+     */
+    private volatile List<ServiceInstance> instances;
+
     public SimpleServiceDiscovery(SimpleConfiguration configuration) {
         Optional
                 .ofNullable(configuration.getPongServiceHost())
@@ -34,6 +40,19 @@ public class SimpleServiceDiscovery implements ServiceDiscovery {
 
     @Override
     public Uni<List<ServiceInstance>> getServiceInstances() {
+        return Uni.createFrom().item(this::instances);
+    }
+
+    private List<ServiceInstance> instances() {
+        List<ServiceInstance> current = instances;
+        if (current == null) {
+            current = createInstances();
+            instances = current;
+        }
+        return current;
+    }
+
+    private List<ServiceInstance> createInstances() {
         DefaultServiceInstance pongInstance = new DefaultServiceInstance(ServiceInstanceIds.next(),
                 globalConfig.get("pongHost"),
                 Integer.parseInt(globalConfig.get("pongPort")),
@@ -44,6 +63,6 @@ public class SimpleServiceDiscovery implements ServiceDiscovery {
                 Integer.parseInt(globalConfig.get("pongReplicaPort")),
                 false);
 
-        return Uni.createFrom().item(() -> List.of(pongInstance, pongReplicaInstance));
+        return List.of(pongInstance, pongReplicaInstance);
     }
 }
@@ -0,0 +1,68 @@
+package io.quarkus.ts.stork.custom;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import static io.quarkus.ts.stork.custom.StorkCustomServiceDiscoveryAndLoadBalancerIT.getAvailablePort;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.services.QuarkusApplication;
+
+@QuarkusScenario
+public class StorkLeastLoadedLoadBalancerIT {
+
+    private static final String PREFIX = "ping-";
+    private static final String DEFAULT_PONG_REPLICA_RESPONSE = "pongReplica";
+    private static final String DEFAULT_PONG_RESPONSE = "pong";
+    private static final String PONG_PORT = getAvailablePort();
+    private static final String SLOW_PONG_REPLICA_PORT = getAvailablePort();
+    private static final int REQUEST_AMOUNT = 50;
+    // the slow replica is tried when both instances are still unknown, and then only once its cost decays
+    private static final int SLOW_REPLICA_MAX_HITS = REQUEST_AMOUNT / 10;
+
+    @QuarkusApplication(classes = PongResource.class)
+    static RestService pongService = new RestService().withProperty("quarkus.http.port", PONG_PORT);
+
+    @QuarkusApplication(classes = PongReplicaResource.class)
+    static RestService slowPongReplicaService = new RestService()
+            .withProperty("quarkus.http.port", SLOW_PONG_REPLICA_PORT)
+            .withProperty("pong.delay", "300ms");
+
+    @QuarkusApplication
+    static RestService mainPingService = new RestService()
+            .withProperty("quarkus.stork.pong.load-balancer.type", "least-loaded")
+            .withProperty("quarkus.stork.pong.load-balancer.decay-time", "10s")
+            .withProperty("quarkus.stork.pong.service-discovery.type", "simple")
+            .withProperty("quarkus.stork.pong-replica.load-balancer.type", "least-loaded")
+            .withProperty("quarkus.stork.pong-replica.service-discovery.type", "simple")
+            .withProperty("quarkus.stork.pong.service-discovery.pongServicePort", () -> "" + pongService.getURI().getPort())
+            .withProperty("quarkus.stork.pong-replica.service-discovery.pongReplicaServicePort",
+                    () -> "" + slowPongReplicaService.getURI().getPort());
+
+    @Test
+    public void trafficShiftsAwayFromSlowReplica() {
+        Map<String, Integer> hits = new HashMap<>();
+        for (int i = 0; i < REQUEST_AMOUNT; i++) {
+            String response = mainPingService.given()
+                    .get("/ping/pong").then()
+                    .statusCode(HttpStatus.SC_OK)
+                    .extract().body().asString();
+            hits.merge(response, 1, Integer::sum);
+        }
+
+        int slowReplicaHits = hits.getOrDefault(PREFIX + DEFAULT_PONG_REPLICA_RESPONSE, 0);
+        assertThat("Traffic should move away from the slow replica", slowReplicaHits,
+                lessThanOrEqualTo(SLOW_REPLICA_MAX_HITS));
+        assertThat("The fast instance should serve most of the calls",
+                hits.getOrDefault(PREFIX + DEFAULT_PONG_RESPONSE, 0),
+                greaterThanOrEqualTo(REQUEST_AMOUNT - SLOW_REPLICA_MAX_HITS));
+    }
+}
@@ -0,0 +1,113 @@
+package io.quarkus.ts.hibernate.search;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+
+/**
+ * Progress of a mass indexing of one tenant, updated by the mass indexer threads.
+ */
+public class ReindexProgress implements MassIndexingMonitor {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+    private final String tenant;
+    private final long startedAt = System.currentTimeMillis();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong loaded = new AtomicLong();
+    private final AtomicLong built = new AtomicLong();
+    private final AtomicLong added = new AtomicLong();
+    private volatile State state = State.RUNNING;
+    private volatile long finishedAt;
+    private volatile String failure;
+
+    public ReindexProgress(String tenant) {
+        this.tenant = tenant;
+    }
+
+    @Override
+    public void documentsAdded(long increment) {
+        added.addAndGet(increment);
+    }
+
+    @Override
+    public void documentsBuilt(long increment) {
+        built.addAndGet(increment);
+    }
+
+    @Override
+    public void entitiesLoaded(long increment) {
+        loaded.addAndGet(increment);
+    }
+
+    @Override
+    public void addToTotalCount(long increment) {
+        total.addAndGet(increment);
+    }
+
+    @Override
+    public void indexingCompleted() {
+        // the final state is set once the mass indexer future completes
+    }
+
+    void finished(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null) {
+            state = State.COMPLETED;
+        } else if (cause instanceof CancellationException) {
+            state = State.CANCELLED;
+        } else {
+            state = State.FAILED;
+            failure = cause.getMessage();
+        }
+        finishedAt = System.currentTimeMillis();
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public long getLoaded() {
+        return loaded.get();
+    }
+
+    public long getBuilt() {
+        return built.get();
+    }
+
+    public long getAdded() {
+        return added.get();
+    }
+
+    public long getElapsedMillis() {
+        return (isRunning() ? System.currentTimeMillis() : finishedAt) - startedAt;
+    }
+
+    public long getDocumentsPerSecond() {
+        long elapsed = getElapsedMillis();
+        return elapsed == 0 ? 0 : getAdded() * 1000 / elapsed;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+}
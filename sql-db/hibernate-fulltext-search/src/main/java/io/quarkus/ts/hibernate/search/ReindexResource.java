@@ -0,0 +1,79 @@
+package io.quarkus.ts.hibernate.search;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.jboss.logging.Logger;
+
+import io.smallrye.common.annotation.Blocking;
+
+/**
+ * Rebuilds the index of one tenant with a parallel mass indexer. The tenant is resolved from the path like for
+ * {@link FruitResource}, so the mass indexer only loads the entities of that tenant.
+ */
+@ApplicationScoped
+@Produces("application/json")
+@Path("/{tenant}/admin/reindex")
+public class ReindexResource {
+
+    private static final Logger LOG = Logger.getLogger(ReindexResource.class.getName());
+
+    @Inject
+    SearchSession searchSession;
+
+    private final Map<String, ReindexProgress> progressByTenant = new ConcurrentHashMap<>();
+
+    @POST
+    @Blocking
+    public Response start(@PathParam("tenant") String tenant,
+            @QueryParam("threads") @DefaultValue("4") int threads,
+            @QueryParam("batchSize") @DefaultValue("100") int batchSize,
+            @QueryParam("idFetchSize") @DefaultValue("1000") int idFetchSize,
+            @QueryParam("timeoutSeconds") @DefaultValue("600") long timeoutSeconds) {
+        ReindexProgress progress = new ReindexProgress(tenant);
+        ReindexProgress current = progressByTenant.merge(tenant, progress,
+                (previous, next) -> previous.isRunning() ? previous : next);
+        if (current != progress) {
+            throw new WebApplicationException("Reindexing of tenant " + tenant + " is already running.", 409);
+        }
+
+        LOG.infov("Reindexing tenant {0} with {1} threads and batches of {2}", tenant, threads, batchSize);
+        CompletableFuture<?> indexing = searchSession.massIndexer(Fruit.class)
+                .threadsToLoadObjects(threads)
+                .batchSizeToLoadObjects(batchSize)
+                .idFetchSize(idFetchSize)
+                .purgeAllOnStart(true)
+                .monitor(progress)
+                .start()
+                .toCompletableFuture();
+        // cancelling the future stops the mass indexer, so a reindex never runs longer than the timeout
+        CompletableFuture.delayedExecutor(timeoutSeconds, TimeUnit.SECONDS).execute(() -> indexing.cancel(true));
+        indexing.whenComplete((ignored, failure) -> progress.finished(failure));
+
+        return Response.accepted(progress).build();
+    }
+
+    @GET
+    public ReindexProgress progress(@PathParam("tenant") String tenant) {
+        ReindexProgress progress = progressByTenant.get(tenant);
+        if (progress == null) {
+            throw new WebApplicationException("Tenant " + tenant + " was never reindexed.", 404);
+        }
+        return progress;
+    }
+}
@@ -1,12 +1,15 @@
 package io.quarkus.ts.hibernate.search;
 
 import static io.restassured.RestAssured.given;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import jakarta.ws.rs.core.Response;
@@ -17,6 +20,7 @@ import io.quarkus.test.bootstrap.RestService;
 import io.quarkus.test.services.URILike;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
 
 public abstract class AbstractMultitenantHibernateSearchIT {
     public static final TypeRef<List<Fruit>> FRUIT_LIST_TYPE_REF = new TypeRef<>() {
@@ -85,6 +89,37 @@ public abstract class AbstractMultitenantHibernateSearchIT {
         delete(tenant, pitaya);
     }
 
+    @Test
+    public void massIndexerRebuildsTenantIndex() {
+        String tenant = "company2";
+        int fruits = 50;
+        for (int i = 0; i < fruits; i++) {
+            create(tenant, new Fruit("Reindexed fruit " + i));
+        }
+
+        getApp().given()
+                .queryParam("threads", 2)
+                .queryParam("batchSize", 10)
+                .when().post("/" + tenant + "/admin/reindex")
+                .then()
+                .statusCode(is(Response.Status.ACCEPTED.getStatusCode()));
+
+        await().atMost(1, TimeUnit.MINUTES).untilAsserted(() -> getApp().given()
+                .when().get("/" + tenant + "/admin/reindex")
+                .then()
+                .statusCode(is(Response.Status.OK.getStatusCode()))
+                .body("state", is("COMPLETED")));
+        JsonPath progress = getApp().given()
+                .when().get("/" + tenant + "/admin/reindex")
+                .then().extract().jsonPath();
+        assertThat(progress.getLong("added"), is(progress.getLong("total")));
+        assertThat(progress.getLong("total"), greaterThanOrEqualTo((long) fruits));
+
+        List<Fruit> reindexed = search(tenant, "Reindexed");
+        assertThat(reindexed, hasSize(equalTo(fruits)));
+        delete(tenant, reindexed);
+    }
+
     private void create(String tenantId, Fruit fruit) {
         getApp().given().with().body(fruit).contentType(ContentType.JSON)
                 .when().post("/" + tenantId + "/fruits")
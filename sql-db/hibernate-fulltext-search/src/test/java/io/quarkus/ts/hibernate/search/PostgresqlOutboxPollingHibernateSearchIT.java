@@ -0,0 +1,139 @@
+package io.quarkus.ts.hibernate.search;
+
+import static io.quarkus.ts.hibernate.search.AbstractMultitenantHibernateSearchIT.FRUIT_LIST_TYPE_REF;
+import static io.quarkus.ts.hibernate.search.AbstractMultitenantHibernateSearchIT.getElasticSearchConnectionChain;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.Response;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.bootstrap.DefaultService;
+import io.quarkus.test.bootstrap.PostgresqlService;
+import io.quarkus.test.bootstrap.Protocol;
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.services.Container;
+import io.quarkus.test.services.QuarkusApplication;
+import io.restassured.http.ContentType;
+
+/**
+ * Writes only append to the outbox tables, and a background event processor updates the index later on.
+ * The processor polls every few seconds, so the search right after a write still sees the previous index state.
+ */
+@QuarkusScenario
+public class PostgresqlOutboxPollingHibernateSearchIT {
+
+    static final int ELASTIC_PORT = 9200;
+    static final int POSTGRESQL_PORT = 5432;
+    static final String POLLING_INTERVAL = "3s";
+
+    @Container(image = "${elastic.7x.image}", port = ELASTIC_PORT, expectedLog = "started")
+    static DefaultService elastic = new DefaultService()
+            .withProperty("discovery.type", "single-node")
+            // Limit resources as Elasticsearch official docker image use half of available RAM
+            .withProperty("ES_JAVA_OPTS", "-Xms1g -Xmx1g");
+
+    @Container(image = "${postgresql.latest.image}", port = POSTGRESQL_PORT, expectedLog = "listening on IPv4 address")
+    static PostgresqlService database = new PostgresqlService();
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperties("postgresql.properties")
+            .withProperty("quarkus.datasource.username", database.getUser())
+            .withProperty("quarkus.datasource.password", database.getPassword())
+            .withProperty("quarkus.datasource.jdbc.url", database::getJdbcUrl)
+            .withProperty("quarkus.hibernate-search-orm.elasticsearch.hosts",
+                    () -> getElasticSearchConnectionChain(elastic.getURI(Protocol.HTTP)))
+            .withProperty("quarkus.hibernate-search-orm.coordination.strategy", "outbox-polling")
+            // pulse interval can't be lower than the polling interval
+            .withProperty("quarkus.hibernate-search-orm.coordination.event-processor.polling-interval", POLLING_INTERVAL)
+            .withProperty("quarkus.hibernate-search-orm.coordination.event-processor.pulse-interval", POLLING_INTERVAL);
+
+    @Test
+    public void writesReturnBeforeIndexing() {
+        String tenant = "company1";
+        String fruitName = "outboxFruit";
+
+        Fruit created = create(tenant, new Fruit(fruitName));
+        assertThat(stored(tenant), hasItem(created));
+        assertThat(search(tenant, fruitName), is(empty()));
+
+        awaitSearch(tenant, fruitName, 1);
+        assertThat(search("company2", fruitName), is(empty()));
+
+        created.setName("outboxRenamed");
+        update(tenant, created);
+        awaitSearch(tenant, "outboxRenamed", 1);
+        awaitSearch(tenant, fruitName, 0);
+
+        delete(tenant, created);
+        awaitSearch(tenant, "outboxRenamed", 0);
+    }
+
+    @Test
+    public void burstOfWritesConvergesThroughOutbox() {
+        String tenant = "base";
+        int fruits = 20;
+        for (int i = 0; i < fruits; i++) {
+            create(tenant, new Fruit("Outbox burst " + i));
+        }
+        assertThat(stored(tenant), hasSize(fruits));
+
+        awaitSearch(tenant, "burst", fruits);
+        search(tenant, "burst").forEach(fruit -> delete(tenant, fruit));
+        awaitSearch(tenant, "burst", 0);
+    }
+
+    private void awaitSearch(String tenant, String terms, int expected) {
+        await().atMost(1, TimeUnit.MINUTES).pollInterval(500, TimeUnit.MILLISECONDS)
+                .untilAsserted(() -> assertThat(search(tenant, terms), hasSize(expected)));
+    }
+
+    private Fruit create(String tenant, Fruit fruit) {
+        return app.given().with().body(fruit).contentType(ContentType.JSON)
+                .when().post("/" + tenant + "/fruits")
+                .then()
+                .statusCode(is(Response.Status.CREATED.getStatusCode()))
+                .extract().as(Fruit.class);
+    }
+
+    private void update(String tenant, Fruit fruit) {
+        app.given().with().body(fruit).contentType(ContentType.JSON)
+                .when().put("/" + tenant + "/fruits/" + fruit.getId())
+                .then()
+                .statusCode(is(Response.Status.OK.getStatusCode()));
+    }
+
+    private void delete(String tenant, Fruit fruit) {
+        app.given()
+                .when().delete("/" + tenant + "/fruits/" + fruit.getId())
+                .then()
+                .statusCode(is(Response.Status.NO_CONTENT.getStatusCode()));
+    }
+
+    private List<Fruit> stored(String tenant) {
+        return Arrays.asList(app.given()
+                .when().get("/" + tenant + "/fruits")
+                .then()
+                .statusCode(is(Response.Status.OK.getStatusCode()))
+                .extract().as(Fruit[].class));
+    }
+
+    private List<Fruit> search(String tenant, String terms) {
+        return app.given()
+                .when().get("/" + tenant + "/fruits/search?terms={terms}", terms)
+                .then()
+                .statusCode(is(Response.Status.OK.getStatusCode()))
+                .extract().as(FRUIT_LIST_TYPE_REF);
+    }
+}
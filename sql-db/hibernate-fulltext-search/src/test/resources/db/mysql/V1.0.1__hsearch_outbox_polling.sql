@@ -0,0 +1,5 @@
+-- Tables of the Hibernate Search 'outbox-polling' coordination strategy.
+-- ORM schema generation is disabled in this module, so every tenant database gets them here.
+CREATE TABLE hsearch_outbox_event (id BINARY(16) NOT NULL PRIMARY KEY, entityName VARCHAR(256) NOT NULL, entityId VARCHAR(256) NOT NULL, entityIdHash INT NOT NULL, payload LONGBLOB, retries INT NOT NULL, processAfter DATETIME(6), status TINYINT NOT NULL);
+CREATE INDEX hsearch_outbox_event_process_idx ON hsearch_outbox_event (processAfter);
+CREATE TABLE hsearch_agent (id BINARY(16) NOT NULL PRIMARY KEY, type TINYINT NOT NULL, name VARCHAR(255) NOT NULL, expiration DATETIME(6), state TINYINT NOT NULL, totalShardCount INT, assignedShardIndex INT, payload LONGBLOB);
@@ -0,0 +1,77 @@
+-- Tables of the Hibernate Search 'outbox-polling' coordination strategy.
+-- ORM schema generation is disabled in this module, so every tenant schema gets them here.
+
+CREATE TABLE "base".hsearch_outbox_event
+(
+  id           UUID         NOT NULL PRIMARY KEY,
+  entityName   VARCHAR(256) NOT NULL,
+  entityId     VARCHAR(256) NOT NULL,
+  entityIdHash INT          NOT NULL,
+  payload      BYTEA,
+  retries      INT          NOT NULL,
+  processAfter TIMESTAMP(6) WITH TIME ZONE,
+  status       SMALLINT     NOT NULL
+);
+CREATE INDEX hsearch_outbox_event_process_idx ON "base".hsearch_outbox_event (processAfter);
+
+CREATE TABLE "base".hsearch_agent
+(
+  id                 UUID         NOT NULL PRIMARY KEY,
+  type               SMALLINT     NOT NULL,
+  name               VARCHAR(255) NOT NULL,
+  expiration         TIMESTAMP(6) WITH TIME ZONE,
+  state              SMALLINT     NOT NULL,
+  totalShardCount    INT,
+  assignedShardIndex INT,
+  payload            BYTEA
+);
+
+CREATE TABLE "company1".hsearch_outbox_event
+(
+  id           UUID         NOT NULL PRIMARY KEY,
+  entityName   VARCHAR(256) NOT NULL,
+  entityId     VARCHAR(256) NOT NULL,
+  entityIdHash INT          NOT NULL,
+  payload      BYTEA,
+  retries      INT          NOT NULL,
+  processAfter TIMESTAMP(6) WITH TIME ZONE,
+  status       SMALLINT     NOT NULL
+);
+CREATE INDEX hsearch_outbox_event_process_idx ON "company1".hsearch_outbox_event (processAfter);
+
+CREATE TABLE "company1".hsearch_agent
+(
+  id                 UUID         NOT NULL PRIMARY KEY,
+  type               SMALLINT     NOT NULL,
+  name               VARCHAR(255) NOT NULL,
+  expiration         TIMESTAMP(6) WITH TIME ZONE,
+  state              SMALLINT     NOT NULL,
+  totalShardCount    INT,
+  assignedShardIndex INT,
+  payload            BYTEA
+);
+
+CREATE TABLE "company2".hsearch_outbox_event
+(
+  id           UUID         NOT NULL PRIMARY KEY,
+  entityName   VARCHAR(256) NOT NULL,
+  entityId     VARCHAR(256) NOT NULL,
+  entityIdHash INT          NOT NULL,
+  payload      BYTEA,
+  retries      INT          NOT NULL,
+  processAfter TIMESTAMP(6) WITH TIME ZONE,
+  status       SMALLINT     NOT NULL
+);
+CREATE INDEX hsearch_outbox_event_process_idx ON "company2".hsearch_outbox_event (processAfter);
+
+CREATE TABLE "company2".hsearch_agent
+(
+  id                 UUID         NOT NULL PRIMARY KEY,
+  type               SMALLINT     NOT NULL,
+  name               VARCHAR(255) NOT NULL,
+  expiration         TIMESTAMP(6) WITH TIME ZONE,
+  state              SMALLINT     NOT NULL,
+  totalShardCount    INT,
+  assignedShardIndex INT,
+  payload            BYTEA
+);
@@ -1,6 +1,7 @@
 package io.quarkus.ts.transactions;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -43,6 +44,48 @@ public class AccountEntity extends PanacheEntity {
         return updatedRecordsAmount;
     }
 
+    /**
+     * Adds to the balance in the database, so concurrent updates of the same account can't overwrite each other.
+     */
+    public static int increaseAmount(String accountNumber, int amount) {
+        return update("amount = amount + :amount, updatedAt = :updatedAt where accountNumber = :account",
+                Parameters.with("amount", amount)
+                        .and("updatedAt", new Timestamp(System.currentTimeMillis()))
+                        .and("account", accountNumber));
+    }
+
+    /**
+     * Subtracts from the balance in the database only if the balance covers the amount.
+     *
+     * @return 0 if the account doesn't exist or doesn't have enough balance
+     */
+    public static int decreaseAmountIfCovered(String accountNumber, int amount) {
+        return update("amount = amount - :amount, updatedAt = :updatedAt where accountNumber = :account"
+                + " and amount >= :amount",
+                Parameters.with("amount", amount)
+                        .and("updatedAt", new Timestamp(System.currentTimeMillis()))
+                        .and("account", accountNumber));
+    }
+
+    public static long getTotalAmount(Collection<String> accountNumbers) {
+        Long total = getEntityManager()
+                .createQuery("select sum(a.amount) from account a where a.accountNumber in :accounts", Long.class)
+                .setParameter("accounts", accountNumbers)
+                .getSingleResult();
+        return total == null ? 0 : total;
+    }
+
+    public static AccountEntity createAccount(String name, String lastName, String accountNumber, int amount) {
+        AccountEntity account = new AccountEntity();
+        account.setName(name);
+        account.setLastName(lastName);
+        account.setAccountNumber(accountNumber);
+        account.setAmount(amount);
+        account.setCreatedAt(new Timestamp(System.currentTimeMillis()));
+        account.persist();
+        return account;
+    }
+
     public static List<AccountEntity> getAllAccountsRecords() {
         return findAll(Sort.by("createdAt").descending()).list();
     }
@@ -25,23 +25,41 @@ public class AccountService {
         return true;
     }
 
-    public int increaseBalance(String account, int amount) {
-        AccountEntity accountEntity = AccountEntity.findAccount(account);
-        int updatedAmount = accountEntity.getAmount() + amount;
-        AccountEntity.updateAmount(account, updatedAmount);
-        return AccountEntity.findAccount(account).getAmount();
+    public void increaseBalance(String account, int amount) {
+        if (AccountEntity.increaseAmount(account, amount) == 0) {
+            throw accountNotFound(account);
+        }
     }
 
-    public int decreaseBalance(String account, int amount) {
-        AccountEntity accountEntity = AccountEntity.findAccount(account);
-        int updatedAmount = accountEntity.getAmount() - amount;
-        if (updatedAmount < 0) {
+    public void decreaseBalance(String account, int amount) {
+        if (AccountEntity.decreaseAmountIfCovered(account, amount) == 0) {
+            if (!exist(account)) {
+                throw accountNotFound(account);
+            }
             String msg = String.format("Account %s Not enough balance.", account);
             LOG.warn(msg);
             throw new BadRequestException(msg);
         }
-        AccountEntity.updateAmount(account, updatedAmount);
-        return updatedAmount;
+    }
+
+    /**
+     * Updates both accounts in the order of their numbers, so concurrent transfers between the same accounts lock
+     * the rows in the same order and can't deadlock.
+     */
+    public void transfer(String from, String to, int amount) {
+        if (from.compareTo(to) <= 0) {
+            decreaseBalance(from, amount);
+            increaseBalance(to, amount);
+        } else {
+            increaseBalance(to, amount);
+            decreaseBalance(from, amount);
+        }
+    }
+
+    private static NotFoundException accountNotFound(String accountNumber) {
+        String msg = String.format("Account %s doesn't exist", accountNumber);
+        LOG.warn(msg);
+        return new NotFoundException(msg);
     }
 
     public List<AccountEntity> getAllAccounts() {
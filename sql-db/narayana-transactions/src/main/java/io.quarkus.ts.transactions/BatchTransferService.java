@@ -0,0 +1,62 @@
+package io.quarkus.ts.transactions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+@ApplicationScoped
+public class BatchTransferService {
+
+    private static final Logger LOG = Logger.getLogger(BatchTransferService.class);
+    private final static String ANNOTATION_BATCH_TRANSACTION = "batched user transaction to other user";
+    private final static int TRANSACTION_TIMEOUT_SEC = 10;
+
+    @Inject
+    AccountService accountService;
+
+    /**
+     * Applies all the transfers in one transaction, all or nothing. Transfers are netted per account, so every
+     * account is updated once, in the order of the account numbers, and only needs to cover its net debit.
+     * The journal entries are inserted as a single JDBC batch.
+     */
+    public List<JournalEntity> transfer(List<TransferDTO> transfers) {
+        LOG.debugf("Batched transaction of %d transfers", transfers.size());
+        return QuarkusTransaction.requiringNew()
+                .timeout(TRANSACTION_TIMEOUT_SEC)
+                .call(() -> apply(transfers));
+    }
+
+    private List<JournalEntity> apply(List<TransferDTO> transfers) {
+        SortedMap<String, Integer> balanceChanges = new TreeMap<>();
+        List<JournalEntity> journal = new ArrayList<>(transfers.size());
+        for (TransferDTO transfer : transfers) {
+            if (transfer.getAmount() <= 0) {
+                throw new BadRequestException("Transfer amount must be positive, found " + transfer.getAmount());
+            }
+            balanceChanges.merge(transfer.getAccountFrom(), -transfer.getAmount(), Integer::sum);
+            balanceChanges.merge(transfer.getAccountTo(), transfer.getAmount(), Integer::sum);
+            journal.add(new JournalEntity(transfer.getAccountFrom(), transfer.getAccountTo(),
+                    ANNOTATION_BATCH_TRANSACTION, transfer.getAmount()));
+        }
+
+        balanceChanges.forEach((account, change) -> {
+            if (change < 0) {
+                accountService.decreaseBalance(account, -change);
+            } else {
+                // also verifies accounts whose transfers cancel each other out
+                accountService.increaseBalance(account, change);
+            }
+        });
+
+        return JournalEntity.addLogs(journal);
+    }
+}
@@ -1,15 +1,19 @@
 package io.quarkus.ts.transactions;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 
 @Entity(name = "journal")
+@Table(name = "journal", indexes = @Index(name = "journal_latest_by_account", columnList = "accountFrom, createdAt, id"))
 public class JournalEntity extends PanacheEntity {
 
     @Column(nullable = false)
@@ -39,9 +43,18 @@ public class JournalEntity extends PanacheEntity {
         return this;
     }
 
+    /**
+     * Persists all the entries with a single flush, which Hibernate sends as a JDBC batch.
+     */
+    public static List<JournalEntity> addLogs(List<JournalEntity> entries) {
+        persist(entries);
+        flush();
+        return entries;
+    }
+
     public static JournalEntity getLatestJournalRecord(String accountNumber) {
         return find("accountFrom = :accountFrom",
-                Sort.by("createdAt").descending(),
+                Sort.by("createdAt").descending().and("id", Sort.Direction.Descending),
                 Parameters.with("accountFrom", accountNumber))
                 .firstResult();
     }
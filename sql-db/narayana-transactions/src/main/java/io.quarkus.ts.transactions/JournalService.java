@@ -2,17 +2,77 @@ package io.quarkus.ts.transactions;
 
 import static io.quarkus.ts.transactions.JournalEntity.getLatestJournalRecord;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+/**
+ * Write-behind journal. Records are queued in memory per transaction and inserted as one JDBC batch right before the
+ * owning transaction commits, so they are committed or rolled back together with the balance updates.
+ */
 @ApplicationScoped
 public class JournalService {
 
+    private static final Object PENDING_RECORDS_KEY = new Object();
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final Timer flushLatency;
+
+    public JournalService(MeterRegistry registry) {
+        registry.gauge("journal.queue.depth", queueDepth);
+        this.flushLatency = Timer.builder("journal.flush.latency")
+                .description("Time to insert the journal records queued by a transaction")
+                .register(registry);
+    }
+
     public JournalEntity addToJournal(String accountFrom, String accountTo, String annotation, int amount) {
         JournalEntity journal = new JournalEntity(accountFrom, accountTo, annotation, amount);
-        return journal.addLog();
+        if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            return journal.addLog();
+        }
+        pendingRecords().add(journal);
+        queueDepth.incrementAndGet();
+        // the id is assigned when the record is flushed, before the transaction commits
+        return journal;
     }
 
     public JournalEntity getLatestJournalRecordByAccountNumber(String accountNumber) {
         return getLatestJournalRecord(accountNumber);
     }
+
+    @SuppressWarnings("unchecked")
+    private List<JournalEntity> pendingRecords() {
+        List<JournalEntity> pending = (List<JournalEntity>) transactionRegistry.getResource(PENDING_RECORDS_KEY);
+        if (pending == null) {
+            List<JournalEntity> records = new ArrayList<>();
+            transactionRegistry.putResource(PENDING_RECORDS_KEY, records);
+            transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                    if (transactionRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+                        flushLatency.record(() -> JournalEntity.addLogs(records));
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    queueDepth.addAndGet(-records.size());
+                }
+            });
+            pending = records;
+        }
+        return pending;
+    }
 }
@@ -0,0 +1,106 @@
+package io.quarkus.ts.transactions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+/**
+ * Runs the same random transfers between dedicated accounts in parallel, first one transaction per transfer and then
+ * in batches, and reports the time it took and the total balance of the accounts before and after.
+ */
+@ApplicationScoped
+public class TransferBenchmarkService {
+
+    private static final Logger LOG = Logger.getLogger(TransferBenchmarkService.class);
+    private static final String ACCOUNT_PREFIX = "BENCHMARK";
+    private static final int ACCOUNTS = 10;
+    private static final int INITIAL_AMOUNT = 1_000_000;
+    private static final int MAX_TRANSFER_AMOUNT = 10;
+
+    @Inject
+    BatchTransferService batchTransferService;
+
+    public Result run(int transfers, int batchSize, int threads) throws Exception {
+        List<String> accounts = createAccounts();
+        List<TransferDTO> generated = generateTransfers(accounts, transfers);
+
+        long totalBefore = AccountEntity.getTotalAmount(accounts);
+        Run single = run(generated, 1, threads);
+        Run batched = run(generated, batchSize, threads);
+        long totalAfter = AccountEntity.getTotalAmount(accounts);
+
+        LOG.infof("%d transfers on %d threads: one per transaction %d ms, batches of %d %d ms",
+                transfers, threads, single.millis(), batchSize, batched.millis());
+        return new Result(totalBefore, totalAfter, single, batched);
+    }
+
+    private Run run(List<TransferDTO> transfers, int batchSize, int threads) throws Exception {
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int from = 0; from < transfers.size(); from += batchSize) {
+                List<TransferDTO> batch = transfers.subList(from, Math.min(from + batchSize, transfers.size()));
+                tasks.add(executor.submit(() -> {
+                    try {
+                        batchTransferService.transfer(batch);
+                        committed.addAndGet(batch.size());
+                    } catch (WebApplicationException e) {
+                        rejected.addAndGet(batch.size());
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            return new Run(batchSize, millis, committed.get(), rejected.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<String> createAccounts() {
+        List<String> accounts = IntStream.range(0, ACCOUNTS).mapToObj(i -> ACCOUNT_PREFIX + i).toList();
+        QuarkusTransaction.requiringNew().run(() -> accounts.stream()
+                .filter(account -> !AccountEntity.exist(account))
+                .forEach(account -> AccountEntity.createAccount("Benchmark", "Account", account, INITIAL_AMOUNT)));
+        return accounts;
+    }
+
+    private static List<TransferDTO> generateTransfers(List<String> accounts, int amount) {
+        Random random = new Random();
+        List<TransferDTO> transfers = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            int from = random.nextInt(accounts.size());
+            int to = (from + 1 + random.nextInt(accounts.size() - 1)) % accounts.size();
+            TransferDTO transfer = new TransferDTO();
+            transfer.setAccountFrom(accounts.get(from));
+            transfer.setAccountTo(accounts.get(to));
+            transfer.setAmount(1 + random.nextInt(MAX_TRANSFER_AMOUNT));
+            transfers.add(transfer);
+        }
+        return transfers;
+    }
+
+    public record Run(int batchSize, long millis, int committed, int rejected) {
+    }
+
+    public record Result(long totalBefore, long totalAfter, Run single, Run batched) {
+    }
+}
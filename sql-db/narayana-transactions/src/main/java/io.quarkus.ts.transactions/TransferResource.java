@@ -7,11 +7,13 @@ import java.util.List;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
@@ -36,6 +38,12 @@ public class TransferResource {
     @Named("TransferWithdrawalService")
     TransferProcessor withdrawal;
 
+    @Inject
+    BatchTransferService batchTransfer;
+
+    @Inject
+    TransferBenchmarkService transferBenchmark;
+
     @Inject
     JournalService journalService;
 
@@ -90,6 +98,26 @@ public class TransferResource {
         return Response.ok(ID).status(CREATED.getStatusCode()).build();
     }
 
+    /**
+     * Batch represents many transfers applied in a single transaction, either all of them or none.
+     * On the journal every transfer has its own record.
+     */
+    @Path("/batch")
+    @POST
+    public Response makeBatchTransaction(List<TransferDTO> transfers) {
+        List<Long> ids = batchTransfer.transfer(transfers).stream().map(JournalEntity::getId).toList();
+
+        return Response.ok(ids).status(CREATED.getStatusCode()).build();
+    }
+
+    @Path("/benchmark")
+    @POST
+    public TransferBenchmarkService.Result benchmark(@QueryParam("transfers") @DefaultValue("2000") int transfers,
+            @QueryParam("batchSize") @DefaultValue("50") int batchSize,
+            @QueryParam("threads") @DefaultValue("16") int threads) throws Exception {
+        return transferBenchmark.run(transfers, batchSize, threads);
+    }
+
     @Path("/accounts/")
     @GET
     public List<AccountEntity> getAccounts() {
@@ -32,8 +32,7 @@ public class TransferTransactionService extends TransferProcessor {
             verifyAccounts(from, to);
             QuarkusTransaction.begin(QuarkusTransaction.beginOptions().timeout(TRANSACTION_TIMEOUT_SEC));
             journal = journalService.addToJournal(from, to, ANNOTATION_TRANSACTION, amount);
-            accountService.decreaseBalance(from, amount);
-            accountService.increaseBalance(to, amount);
+            accountService.transfer(from, to, amount);
             QuarkusTransaction.commit();
             LOG.infof("Regular transaction completed, from %s to %s", from, to);
         } catch (Exception e) {
@@ -236,6 +236,8 @@ public abstract class TransactionCommons {
                 .then().statusCode(HttpStatus.SC_CREATED);
 
         verifyMetrics(metricName, greater(0));
+        verifyMetrics("journal_flush_latency_seconds_count", greater(0));
+        verifyMetrics("journal_queue_depth", value -> value == 0);
 
         // check rollback gauge
         transferDTO.setAmount(3000);
@@ -249,6 +251,67 @@ public abstract class TransactionCommons {
     }
 
     @Order(8)
+    @Test
+    public void verifyBatchTransactionIsAllOrNothing() {
+        TransferDTO first = new TransferDTO();
+        first.setAccountFrom(ACCOUNT_NUMBER_LUIS);
+        first.setAccountTo(ACCOUNT_NUMBER_LOPE);
+        first.setAmount(60);
+        TransferDTO second = new TransferDTO();
+        second.setAccountFrom(ACCOUNT_NUMBER_LUIS);
+        second.setAccountTo(ACCOUNT_NUMBER_LOPE);
+        second.setAmount(60);
+        int lopeAmount = getAccount(ACCOUNT_NUMBER_LOPE).getAmount();
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(List.of(first, second)).post("/transfer/batch")
+                .then().statusCode(HttpStatus.SC_BAD_REQUEST);
+
+        Assertions.assertEquals(100, getAccount(ACCOUNT_NUMBER_LUIS).getAmount(),
+                "Unexpected amount on source account.");
+        Assertions.assertEquals(lopeAmount, getAccount(ACCOUNT_NUMBER_LOPE).getAmount(),
+                "Unexpected amount on target account.");
+
+        second.setAmount(40);
+        List<Long> journalIds = given()
+                .contentType(ContentType.JSON)
+                .body(List.of(first, second)).post("/transfer/batch")
+                .then().statusCode(HttpStatus.SC_CREATED)
+                .extract().jsonPath().getList(".", Long.class);
+
+        Assertions.assertEquals(2, journalIds.size(), "Every transfer should have its journal record.");
+        Assertions.assertEquals(0, getAccount(ACCOUNT_NUMBER_LUIS).getAmount(),
+                "Unexpected amount on source account.");
+        Assertions.assertEquals(lopeAmount + 100, getAccount(ACCOUNT_NUMBER_LOPE).getAmount(),
+                "Unexpected amount on target account.");
+        Assertions.assertEquals(40, getLatestJournalRecord(ACCOUNT_NUMBER_LUIS).getAmount(),
+                "Latest journal record should be the last transfer of the batch.");
+    }
+
+    @Order(9)
+    @Test
+    public void verifyParallelTransfersConserveBalance() {
+        int transfers = 2000;
+        var result = given()
+                .queryParam("transfers", transfers)
+                .queryParam("batchSize", 50)
+                .queryParam("threads", 16)
+                .post("/transfer/benchmark")
+                .then().statusCode(HttpStatus.SC_OK)
+                .extract().jsonPath();
+
+        Assertions.assertEquals(result.getLong("totalBefore"), result.getLong("totalAfter"),
+                "Parallel transfers should neither create nor lose money.");
+        for (String run : List.of("single", "batched")) {
+            Assertions.assertEquals(transfers, result.getInt(run + ".committed") + result.getInt(run + ".rejected"),
+                    "Every transfer should be either committed or rejected.");
+        }
+        Assertions.assertTrue(result.getLong("batched.millis") < result.getLong("single.millis"),
+                "Batched transfers should be faster than one transaction per transfer: " + result.prettify());
+    }
+
+    @Order(10)
     @Tag("QUARKUS-2739")
     @Test
     public void testTransactionRecovery() {
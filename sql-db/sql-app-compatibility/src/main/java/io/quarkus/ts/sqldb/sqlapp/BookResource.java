@@ -1,9 +1,15 @@
 package io.quarkus.ts.sqldb.sqlapp;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.stream.Stream;
 
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.ClientErrorException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -14,9 +20,18 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.panache.common.Sort;
 
 @Path("/book")
@@ -24,11 +39,86 @@ import io.quarkus.panache.common.Sort;
 @Consumes(MediaType.APPLICATION_JSON)
 public class BookResource {
 
+    private static final Sort KEYSET_ORDER = Sort.by("title").and("id");
+    private static final int MAX_PAGE_SIZE = 1_000;
+
+    @Inject
+    ObjectMapper mapper;
+
+    @ConfigProperty(name = "app.book.stream.fetch-size", defaultValue = "500")
+    int fetchSize;
+
     @GET
     public List<Book> getAll() {
         return Book.listAll(Sort.by("title"));
     }
 
+    /**
+     * Keyset pagination over `(title, id)`, so every page costs an index seek no matter how deep the client is.
+     */
+    @GET
+    @Path("/page")
+    public BookPage page(@QueryParam("after") String after, @QueryParam("size") Integer size) {
+        int pageSize = size == null ? 20 : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BadRequestException("page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Book> books;
+        if (after == null) {
+            books = Book.findAll(KEYSET_ORDER).range(0, pageSize).list();
+        } else {
+            BookCursor cursor = BookCursor.decode(after);
+            books = Book.find("title > ?1 or (title = ?1 and id > ?2)", KEYSET_ORDER, cursor.title(), cursor.id())
+                    .range(0, pageSize)
+                    .list();
+        }
+
+        // one extra row was fetched only to know whether there is a next page
+        if (books.size() <= pageSize) {
+            return new BookPage(books, null);
+        }
+        List<Book> items = books.subList(0, pageSize);
+        return new BookPage(items, BookCursor.after(items.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Streams the whole table as a JSON array. Rows are read through a JDBC cursor and detached once written, so
+     * neither the persistence context nor the response buffer grows with the table size.
+     */
+    @GET
+    @Path("/stream")
+    public StreamingOutput stream() {
+        return output -> {
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(output)) {
+                QuarkusTransaction.requiringNew().run(() -> writeAll(generator));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private void writeAll(JsonGenerator generator) {
+        EntityManager entityManager = Book.getEntityManager();
+        try (Stream<Book> books = Book.<Book> findAll(KEYSET_ORDER)
+                .withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream()) {
+            generator.writeStartArray();
+            books.forEach(book -> {
+                try {
+                    generator.writeObject(book);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                entityManager.detach(book);
+            });
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @GET
     @Path("/{id}")
     public Book get(@PathParam("id") Long id) {
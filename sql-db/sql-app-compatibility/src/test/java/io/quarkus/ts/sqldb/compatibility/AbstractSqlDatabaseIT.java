@@ -2,8 +2,13 @@ package io.quarkus.ts.sqldb.compatibility;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.MethodOrderer;
@@ -13,6 +18,8 @@ import org.junit.jupiter.api.TestMethodOrder;
 
 import io.quarkus.ts.sqldb.sqlapp.Book;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.specification.RequestSpecification;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public abstract class AbstractSqlDatabaseIT {
@@ -21,6 +28,7 @@ public abstract class AbstractSqlDatabaseIT {
 
     private static final int VALID_ID = 8;
     private static final int INVALID_ID = 999;
+    private static final int PAGE_SIZE = 3;
 
     @Test
     @Order(1)
@@ -177,4 +185,58 @@ public abstract class AbstractSqlDatabaseIT {
                 .body("code", equalTo(HttpStatus.SC_NOT_FOUND))
                 .body("error", equalTo(String.format("book '%d' not found", VALID_ID)));
     }
+
+    @Test
+    @Order(11)
+    public void keysetPagination() {
+        List<Integer> expectedIds = given().get("/book").then().statusCode(HttpStatus.SC_OK).extract().path("id");
+        List<Integer> pagedIds = new ArrayList<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            RequestSpecification request = given().queryParam("size", PAGE_SIZE);
+            if (cursor != null) {
+                request.queryParam("after", cursor);
+            }
+            JsonPath page = request
+                    .get("/book/page")
+                    .then()
+                    .statusCode(HttpStatus.SC_OK)
+                    .extract().jsonPath();
+            pagedIds.addAll(page.getList("items.id", Integer.class));
+            cursor = page.getString("next");
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expectedIds, pagedIds, "Keyset pages should visit every book once in title order");
+        assertEquals((EXPECTED_SIZE + PAGE_SIZE - 1) / PAGE_SIZE, pages);
+
+        given()
+                .queryParam("size", EXPECTED_SIZE)
+                .get("/book/page")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("items", hasSize(EXPECTED_SIZE))
+                .body("next", nullValue());
+
+        given()
+                .queryParam("after", "not-a-cursor")
+                .get("/book/page")
+                .then()
+                .statusCode(HttpStatus.SC_BAD_REQUEST)
+                .body("code", equalTo(HttpStatus.SC_BAD_REQUEST));
+    }
+
+    @Test
+    @Order(12)
+    public void stream() {
+        List<Integer> expectedIds = given().get("/book").then().statusCode(HttpStatus.SC_OK).extract().path("id");
+
+        given()
+                .get("/book/stream")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .contentType(ContentType.JSON)
+                .body("id", equalTo(expectedIds));
+    }
 }
@@ -0,0 +1,33 @@
+package io.quarkus.ts.sqldb.sqlapp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import jakarta.ws.rs.BadRequestException;
+
+/**
+ * Opaque keyset pagination cursor pointing to the last `(title, id)` pair returned to the client.
+ */
+public record BookCursor(String title, long id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static BookCursor after(Book book) {
+        return new BookCursor(book.title, book.id);
+    }
+
+    public static BookCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new BookCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("invalid cursor '" + cursor + "'");
+        }
+    }
+
+    public String encode() {
+        String value = id + String.valueOf(SEPARATOR) + title;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
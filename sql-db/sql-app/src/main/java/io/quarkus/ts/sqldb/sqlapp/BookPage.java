@@ -0,0 +1,9 @@
+package io.quarkus.ts.sqldb.sqlapp;
+
+import java.util.List;
+
+/**
+ * @param next cursor of the following page, or null if this is the last one
+ */
+public record BookPage(List<Book> items, String next) {
+}
@@ -10,9 +10,14 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 
 import io.quarkus.ts.vertx.sql.services.DbPoolService;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.SqlClient;
 
 @Schema(name = "Address", description = "Address entity")
 public class Address extends Record {
+    private static final String TABLE_NAME = "address";
+    private static final List<String> FIELDS_NAMES = Arrays
+            .asList("street,block_number,zip_code,city,country,created_at".split(","));
+
     private String street;
     private String blockNumber;
     private String zipCode;
@@ -60,11 +65,18 @@ public class Address extends Record {
     }
 
     public Uni<Long> save(DbPoolService sqlClient) {
-        List<String> fieldsNames = Arrays.asList("street,block_number,zip_code,city,country,created_at".split(","));
-        List<Object> fieldsValues = Stream
+        return sqlClient.save(TABLE_NAME, FIELDS_NAMES, fieldsValues());
+    }
+
+    static Uni<List<Long>> saveAll(DbPoolService sqlClient, SqlClient tx, List<Address> addresses) {
+        return sqlClient.saveAll(tx, TABLE_NAME, FIELDS_NAMES,
+                addresses.stream().map(Address::fieldsValues).collect(Collectors.toList()));
+    }
+
+    private List<Object> fieldsValues() {
+        return Stream
                 .of(getStreet(), getBlockNumber(), getZipCode(), getCity(), getCountry(), getCreatedAt())
                 .collect(Collectors.toList());
-        return sqlClient.save("address", fieldsNames, fieldsValues);
     }
 
     @Override
@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -14,6 +15,8 @@ import io.vertx.mutiny.sqlclient.SqlClientHelper;
 
 @Schema(name = "Basket", description = "Basket entity")
 public class Basket extends Record {
+    private static final String TABLE_NAME = "basket";
+    private static final List<String> FIELDS_NAMES = Arrays.asList("flight,price,created_at,passenger_id".split(","));
 
     private String flight;
     private double price;
@@ -53,12 +56,25 @@ public class Basket extends Record {
 
     public Uni<Long> save(DbPoolService sqlClient) {
         return SqlClientHelper.inTransactionUni(sqlClient,
-                tx -> billingPassenger.save(sqlClient).onItem().transformToUni(passenger_id -> {
-                    List<String> fieldsNames = Arrays.asList("flight,price,created_at,passenger_id".split(","));
-                    List<Object> fieldsValues = Stream.of(getFlight(), getPrice(), getCreatedAt(), passenger_id)
-                            .collect(Collectors.toList());
-                    return sqlClient.save("basket", fieldsNames, fieldsValues);
-                }));
+                tx -> billingPassenger.save(sqlClient).onItem().transformToUni(
+                        passenger_id -> sqlClient.save(TABLE_NAME, FIELDS_NAMES, fieldsValues(passenger_id))));
+    }
+
+    /**
+     * Saves all the baskets in one transaction, with one batched insert per table instead of one insert per row.
+     */
+    public static Uni<List<Long>> saveAll(DbPoolService sqlClient, List<Basket> baskets) {
+        List<Passenger> passengers = baskets.stream().map(Basket::getBillingPassenger).collect(Collectors.toList());
+        return SqlClientHelper.inTransactionUni(sqlClient, tx -> Passenger.saveAll(sqlClient, tx, passengers).onItem()
+                .transformToUni(passengerIds -> sqlClient.saveAll(tx, TABLE_NAME, FIELDS_NAMES,
+                        IntStream.range(0, baskets.size())
+                                .mapToObj(i -> baskets.get(i).fieldsValues(passengerIds.get(i)))
+                                .collect(Collectors.toList()))));
+    }
+
+    private List<Object> fieldsValues(Long passengerId) {
+        return Stream.of(getFlight(), getPrice(), getCreatedAt(), passengerId)
+                .collect(Collectors.toList());
     }
 
     @Override
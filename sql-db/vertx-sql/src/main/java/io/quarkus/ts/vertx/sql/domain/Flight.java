@@ -11,6 +11,8 @@ import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.sqlclient.Row;
 import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
 
 @Schema(name = "Flight", description = "Flight entity")
 public class Flight extends Record {
@@ -62,9 +64,35 @@ public class Flight extends Record {
     }
 
     public static Multi<Flight> findByOriginDestination(DbPoolService client, String origin, String destination) {
-        String query = String.format("SELECT * FROM " + client.getTableName("flights") + " where %s = '%s' and %s = '%s'",
-                QUALIFIED_ORIGIN_NAME, origin, QUALIFIED_DESTINATION_NAME, destination);
-        return client.query(query).execute().onItem().transformToMulti(Flight::fromSet);
+        return client.preparedQuery(originDestinationQuery(client)).execute(Tuple.of(origin, destination)).onItem()
+                .transformToMulti(Flight::fromSet);
+    }
+
+    /**
+     * Reads flights through a database cursor, so at most `fetchSize` rows are held at once and the next batch is
+     * only fetched once downstream requests it. Dialects without cursor support fall back to
+     * {@link #findByOriginDestination}.
+     */
+    public static Multi<Flight> streamByOriginDestination(DbPoolService client, String origin, String destination,
+            int fetchSize) {
+        if (!client.supportsCursors()) {
+            return findByOriginDestination(client, origin, destination);
+        }
+
+        String query = originDestinationQuery(client);
+        Tuple params = Tuple.of(origin, destination);
+        // cursors need a transaction, which is rolled back when the connection is given back to the pool
+        return Multi.createFrom().resourceFromUni(client::getConnection,
+                connection -> connection.begin().onItem()
+                        .transformToMulti(tx -> connection.prepare(query).onItem()
+                                .transformToMulti(statement -> statement.createStream(fetchSize, params).toMulti())))
+                .withFinalizer(SqlConnection::close)
+                .onItem().transform(Flight::from);
+    }
+
+    private static String originDestinationQuery(DbPoolService client) {
+        return "SELECT * FROM " + client.getTableName("flights") + " where " + QUALIFIED_ORIGIN_NAME + " = "
+                + client.placeholder(1) + " and " + QUALIFIED_DESTINATION_NAME + " = " + client.placeholder(2);
     }
 
     public static Uni<List<Flight>> findByOriginDestinationAsList(DbPoolService client, String origin, String destination) {
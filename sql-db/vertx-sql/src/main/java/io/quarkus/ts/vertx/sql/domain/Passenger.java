@@ -4,16 +4,22 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 
 import io.quarkus.ts.vertx.sql.services.DbPoolService;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.SqlClient;
 import io.vertx.mutiny.sqlclient.SqlClientHelper;
 
 @Schema(name = "Passenger", description = "Passenger entity")
 public class Passenger extends Record {
+    private static final String TABLE_NAME = "passenger";
+    private static final List<String> FIELDS_NAMES = Arrays
+            .asList("nif,name,last_name,contact_number,created_at,address_id".split(","));
+
     private String nif;
     private String name;
     private String lastName;
@@ -61,13 +67,22 @@ public class Passenger extends Record {
     }
 
     public Uni<Long> save(DbPoolService sqlClient) {
-        return SqlClientHelper.inTransactionUni(sqlClient, tx -> address.save(sqlClient).onItem().transformToUni(address_id -> {
-            List<String> fieldsNames = Arrays.asList("nif,name,last_name,contact_number,created_at,address_id".split(","));
-            List<Object> fieldsValues = Stream
-                    .of(getNif(), getName(), getLastName(), getContactNumber(), getCreatedAt(), address_id)
-                    .collect(Collectors.toList());
-            return sqlClient.save("passenger", fieldsNames, fieldsValues);
-        }));
+        return SqlClientHelper.inTransactionUni(sqlClient, tx -> address.save(sqlClient).onItem()
+                .transformToUni(address_id -> sqlClient.save(TABLE_NAME, FIELDS_NAMES, fieldsValues(address_id))));
+    }
+
+    static Uni<List<Long>> saveAll(DbPoolService sqlClient, SqlClient tx, List<Passenger> passengers) {
+        List<Address> addresses = passengers.stream().map(Passenger::getAddress).collect(Collectors.toList());
+        return Address.saveAll(sqlClient, tx, addresses).onItem().transformToUni(addressIds -> sqlClient.saveAll(tx,
+                TABLE_NAME, FIELDS_NAMES, IntStream.range(0, passengers.size())
+                        .mapToObj(i -> passengers.get(i).fieldsValues(addressIds.get(i)))
+                        .collect(Collectors.toList())));
+    }
+
+    private List<Object> fieldsValues(Long addressId) {
+        return Stream
+                .of(getNif(), getName(), getLastName(), getContactNumber(), getCreatedAt(), addressId)
+                .collect(Collectors.toList());
     }
 
     @Override
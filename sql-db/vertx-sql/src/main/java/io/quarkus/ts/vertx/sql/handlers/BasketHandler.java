@@ -1,5 +1,9 @@
 package io.quarkus.ts.vertx.sql.handlers;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -18,6 +22,7 @@ import io.quarkus.vertx.web.Body;
 import io.quarkus.vertx.web.Route;
 import io.quarkus.vertx.web.Route.HttpMethod;
 import io.quarkus.vertx.web.RouteBase;
+import io.vertx.core.json.JsonArray;
 import io.vertx.ext.web.RoutingContext;
 
 @Tag(name = "Basket", description = "Manage your basket")
@@ -38,4 +43,16 @@ public class BasketHandler {
                 .subscribe().with(id -> context.response().setStatusCode(201).end(new Record(id).toJsonStringify()));
     }
 
+    @Operation(summary = "save several baskets in a single transaction")
+    @APIResponse(responseCode = "201", description = "basket ids", content = @Content(mediaType = "application/json", schema = @Schema(type = SchemaType.ARRAY, implementation = Record.class)))
+    @Route(methods = HttpMethod.POST, path = "/checkout/batch")
+    void checkoutAll(@Body JsonArray body, RoutingContext context) {
+        List<Basket> baskets = IntStream.range(0, body.size())
+                .mapToObj(i -> body.getJsonObject(i).mapTo(Basket.class))
+                .collect(Collectors.toList());
+        Basket.saveAll(connection, baskets)
+                .onFailure().invoke(context::fail)
+                .subscribe().with(ids -> context.response().setStatusCode(201)
+                        .end(Record.toJsonStringify(ids.stream().map(Record::new).collect(Collectors.toList()))));
+    }
 }
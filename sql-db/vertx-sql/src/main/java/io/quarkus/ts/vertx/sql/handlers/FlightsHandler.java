@@ -16,6 +16,7 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import io.quarkus.ts.vertx.sql.domain.Basket;
 import io.quarkus.ts.vertx.sql.domain.Flight;
 import io.quarkus.ts.vertx.sql.domain.QueryFlightSearch;
 import io.quarkus.ts.vertx.sql.domain.Record;
@@ -23,9 +24,11 @@ import io.quarkus.ts.vertx.sql.services.DbPoolService;
 import io.quarkus.ts.vertx.sql.services.FlightSearchService;
 import io.quarkus.vertx.web.Body;
 import io.quarkus.vertx.web.Param;
+import io.quarkus.vertx.web.ReactiveRoutes;
 import io.quarkus.vertx.web.Route;
 import io.quarkus.vertx.web.Route.HttpMethod;
 import io.quarkus.vertx.web.RouteBase;
+import io.smallrye.mutiny.Multi;
 import io.vertx.core.json.Json;
 import io.vertx.ext.web.RoutingContext;
 
@@ -51,6 +54,20 @@ public class FlightsHandler {
                 .subscribe().with(resp -> context.response().end(Json.encode(resp)));
     }
 
+    @Operation(summary = "Flight search streamed as a chunked JSON array")
+    @APIResponse(responseCode = "200", description = "search flights prices", content = @Content(mediaType = "application/json", schema = @Schema(type = SchemaType.ARRAY, implementation = Basket.class)))
+    @Route(methods = HttpMethod.PUT, path = "/search/stream", order = 0)
+    Multi<Basket> searchAsStream(@Body @Valid QueryFlightSearch query) {
+        return ReactiveRoutes.asJsonArray(flightSearchService.searchAsStream(query));
+    }
+
+    @Operation(summary = "Flight search streamed as newline delimited JSON")
+    @APIResponse(responseCode = "200", description = "search flights prices", content = @Content(mediaType = ReactiveRoutes.ND_JSON, schema = @Schema(type = SchemaType.ARRAY, implementation = Basket.class)))
+    @Route(methods = HttpMethod.PUT, path = "/search/ndjson", order = 0, produces = ReactiveRoutes.ND_JSON)
+    Multi<Basket> searchAsNdjson(@Body @Valid QueryFlightSearch query) {
+        return flightSearchService.searchAsStream(query);
+    }
+
     @Operation(summary = "Retrieve all flights")
     @APIResponse(responseCode = "200", content = @Content(mediaType = "application/json", schema = @Schema(type = SchemaType.ARRAY, implementation = Flight.class)))
     @Route(methods = HttpMethod.GET, path = "*", order = 2)
@@ -68,5 +85,4 @@ public class FlightsHandler {
                 .onFailure().invoke(context::fail)
                 .subscribe().with(flights -> context.response().end(Record.toJsonStringify(flights)));
     }
-
 }
@@ -14,9 +14,11 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import io.quarkus.ts.vertx.sql.domain.PricingRules;
 import io.quarkus.ts.vertx.sql.domain.Record;
 import io.quarkus.ts.vertx.sql.services.DbPoolService;
+import io.quarkus.ts.vertx.sql.services.FlightSearchService;
 import io.quarkus.vertx.web.Route;
 import io.quarkus.vertx.web.Route.HttpMethod;
 import io.quarkus.vertx.web.RouteBase;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
 @Tag(name = "Pricing Rules", description = "Manage your business pricing rules")
@@ -28,6 +30,9 @@ public class PricingRulesHandler {
     @Named("sqlClient")
     DbPoolService connection;
 
+    @Inject
+    FlightSearchService flightSearchService;
+
     @Operation(summary = "Retrieve all pricing rules")
     @APIResponse(responseCode = "200", content = @Content(mediaType = "application/json", schema = @Schema(type = SchemaType.ARRAY, implementation = PricingRules.class)))
     @Route(methods = HttpMethod.GET, path = "*")
@@ -36,4 +41,14 @@ public class PricingRulesHandler {
                 .onFailure().invoke(context::fail)
                 .subscribe().with(pricingRules -> context.response().end(Record.toJsonStringify(pricingRules)));
     }
+
+    @Operation(summary = "Reload pricing rules and airlines used by the flight search")
+    @APIResponse(responseCode = "200", description = "amount of loaded pricing rules", content = @Content(mediaType = "application/json", schema = @Schema(type = SchemaType.OBJECT)))
+    @Route(methods = HttpMethod.POST, path = "/refresh")
+    void refresh(RoutingContext context) {
+        flightSearchService.refresh()
+                .onFailure().invoke(context::fail)
+                .subscribe().with(ignored -> context.response()
+                        .end(new JsonObject().put("pricingRules", flightSearchService.pricingRulesAmount()).encode()));
+    }
 }
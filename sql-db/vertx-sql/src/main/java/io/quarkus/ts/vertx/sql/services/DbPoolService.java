@@ -1,13 +1,21 @@
 package io.quarkus.ts.vertx.sql.services;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.json.JsonArray;
 import io.vertx.mutiny.oracleclient.OracleClient;
 import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlClient;
 import io.vertx.mutiny.sqlclient.SqlClientHelper;
+import io.vertx.mutiny.sqlclient.Tuple;
 import io.vertx.oracleclient.OraclePrepareOptions;
 import io.vertx.sqlclient.PropertyKind;
 
@@ -41,73 +49,118 @@ public class DbPoolService extends Pool {
         };
     }
 
-    private Uni<Long> saveMS(String tableName, List<String> fieldsNames, List<Object> fieldsValues) {
-        return SqlClientHelper.inTransactionUni(this, tx -> {
-            String fields = tableFieldsToString(fieldsNames);
-            String values = tableFieldsValuesToString(fieldsValues);
+    public Uni<List<Long>> saveAll(String tableName, List<String> fieldsNames, List<List<Object>> rows) {
+        return SqlClientHelper.inTransactionUni(this, tx -> saveAll(tx, tableName, fieldsNames, rows));
+    }
 
-            return tx
-                    .preparedQuery(
-                            "INSERT INTO " + getTableName(tableName) + " (" + fields + ") VALUES (" + values
-                                    + "); SELECT SCOPE_IDENTITY() as id;")
-                    .execute()
-                    .map(r -> r.iterator().next().getLong("id"));
-        });
+    /**
+     * Inserts all the rows with a single batched prepared statement and returns generated ids in the same order.
+     */
+    public Uni<List<Long>> saveAll(SqlClient client, String tableName, List<String> fieldsNames, List<List<Object>> rows) {
+        if (rows.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+
+        List<Tuple> batch = rows.stream().map(Tuple::from).collect(Collectors.toList());
+        return switch (selectedDb) {
+            case "mysql" -> client.preparedQuery(insertStatement(tableName, fieldsNames))
+                    .executeBatch(batch)
+                    .onItem().transform(rowSet -> collectIds(rowSet,
+                            result -> (Long) result.getDelegate().property(LAST_INSERTED_ID)));
+            case "mssql" -> client.preparedQuery(insertStatement(tableName, fieldsNames, "OUTPUT INSERTED.id", ""))
+                    .executeBatch(batch)
+                    .onItem().transform(rowSet -> collectIds(rowSet, DbPoolService::firstId));
+            // Oracle client does not return generated keys for batches, statements are pipelined in the transaction
+            case "oracle" -> Multi.createFrom().iterable(batch)
+                    .onItem().transformToUniAndConcatenate(tuple -> client
+                            .preparedQuery(insertStatement(tableName, fieldsNames), ORACLE_AUTO_GENERATED_KEYS_OPTIONS)
+                            .execute(tuple)
+                            .onItem().transform(DbPoolService::oracleGeneratedId))
+                    .collect().asList();
+            default -> client.preparedQuery(insertStatement(tableName, fieldsNames, "", "RETURNING id"))
+                    .executeBatch(batch)
+                    .onItem().transform(rowSet -> collectIds(rowSet, DbPoolService::firstId));
+        };
     }
 
-    protected Uni<Long> savePg(String tableName, List<String> fieldsNames, List<Object> fieldsValues) {
-        return SqlClientHelper.inTransactionUni(this, tx -> {
-            String fields = tableFieldsToString(fieldsNames);
-            String values = tableFieldsValuesToString(fieldsValues);
+    /**
+     * @return positional parameter marker of the selected dialect, position starts at 1
+     */
+    public String placeholder(int position) {
+        return switch (selectedDb) {
+            case "mysql", "oracle" -> "?";
+            case "mssql" -> "@p" + position;
+            default -> "$" + position;
+        };
+    }
 
-            return tx
-                    .preparedQuery("INSERT INTO " + getTableName(tableName) + " (" + fields + ") VALUES (" + values
-                            + ") RETURNING id")
-                    .execute().onItem().transform(id -> id.iterator().next().getLong("id"));
-        });
+    /**
+     * @return whether the selected dialect can read rows through a {@link io.vertx.mutiny.sqlclient.RowStream}
+     */
+    public boolean supportsCursors() {
+        return !"mssql".equals(selectedDb);
     }
 
-    protected Uni<Long> saveMysql(String tableName, List<String> fieldsNames, List<Object> fieldsValues) {
-        return SqlClientHelper.inTransactionUni(this, tx -> {
-            String fields = tableFieldsToString(fieldsNames);
-            String values = tableFieldsValuesToString(fieldsValues);
+    private Uni<Long> saveMS(String tableName, List<String> fieldsNames, List<Object> fieldsValues) {
+        return SqlClientHelper.inTransactionUni(this, tx -> tx
+                .preparedQuery(insertStatement(tableName, fieldsNames, "OUTPUT INSERTED.id", ""))
+                .execute(Tuple.from(fieldsValues))
+                .map(DbPoolService::firstId));
+    }
 
-            return tx
-                    .preparedQuery(
-                            "INSERT INTO " + getTableName(tableName) + " (" + fields + ") VALUES (" + values + ")")
-                    .execute()
-                    .onItem().invoke(r -> this.query("SELECT LAST_INSERT_ID();"))
-                    .onItem().transform(id -> (Long) id.getDelegate().property(LAST_INSERTED_ID));
-        });
+    protected Uni<Long> savePg(String tableName, List<String> fieldsNames, List<Object> fieldsValues) {
+        return SqlClientHelper.inTransactionUni(this, tx -> tx
+                .preparedQuery(insertStatement(tableName, fieldsNames, "", "RETURNING id"))
+                .execute(Tuple.from(fieldsValues)).onItem().transform(DbPoolService::firstId));
+    }
+
+    protected Uni<Long> saveMysql(String tableName, List<String> fieldsNames, List<Object> fieldsValues) {
+        return SqlClientHelper.inTransactionUni(this, tx -> tx
+                .preparedQuery(insertStatement(tableName, fieldsNames))
+                .execute(Tuple.from(fieldsValues))
+                .onItem().transform(id -> (Long) id.getDelegate().property(LAST_INSERTED_ID)));
     }
 
     protected Uni<Long> saveOracle(String tableName, List<String> fieldsNames, List<Object> fieldsValues) {
-        return SqlClientHelper.inTransactionUni(this, tx -> {
-            String fields = tableFieldsToString(fieldsNames);
-            String values = tableFieldsValuesToString(fieldsValues);
+        return SqlClientHelper.inTransactionUni(this, tx -> tx
+                .preparedQuery(insertStatement(tableName, fieldsNames), ORACLE_AUTO_GENERATED_KEYS_OPTIONS)
+                .execute(Tuple.from(fieldsValues))
+                .onItem().transform(DbPoolService::oracleGeneratedId));
+    }
 
-            return tx
-                    .preparedQuery("INSERT INTO " + getTableName(tableName) + " (" + fields + ") VALUES (" + values + ")",
-                            ORACLE_AUTO_GENERATED_KEYS_OPTIONS)
-                    .execute()
-                    .onItem()
-                    .transform(rows -> rows.property(OracleClient.GENERATED_KEYS).getLong(ORACLE_AUTO_GENERATED_KEY_NAME));
-        });
+    private String insertStatement(String tableName, List<String> fieldsNames) {
+        return insertStatement(tableName, fieldsNames, "", "");
     }
 
-    private String tableFieldsToString(List<String> fieldsNames) {
-        return String.join(",", fieldsNames);
+    private String insertStatement(String tableName, List<String> fieldsNames, String output, String returning) {
+        String values = IntStream.rangeClosed(1, fieldsNames.size())
+                .mapToObj(this::placeholder)
+                .collect(Collectors.joining(","));
+        return "INSERT INTO " + getTableName(tableName) + " (" + tableFieldsToString(fieldsNames) + ") "
+                + output + " VALUES (" + values + ") " + returning;
     }
 
-    private String tableFieldsValuesToString(List<Object> fieldsValues) {
-        return fieldsValues.stream()
-                .map(n -> {
-                    String content = String.valueOf(n);
-                    if (n instanceof String) {
-                        return "'" + n + "'";
-                    }
+    private static Long firstId(RowSet<Row> rows) {
+        return rows.iterator().next().getLong("id");
+    }
 
-                    return content;
-                }).collect(Collectors.joining(",", "", ""));
+    private static Long oracleGeneratedId(RowSet<Row> rows) {
+        return rows.property(OracleClient.GENERATED_KEYS).getLong(ORACLE_AUTO_GENERATED_KEY_NAME);
+    }
+
+    /**
+     * Batched executions chain one {@link RowSet} per tuple, reachable through {@link RowSet#next()}.
+     */
+    private static List<Long> collectIds(RowSet<Row> rowSet, Function<RowSet<Row>, Long> idExtractor) {
+        List<Long> ids = new ArrayList<>();
+        for (RowSet<Row> result = rowSet; result != null; result = result.next()) {
+            ids.add(idExtractor.apply(result));
+        }
+
+        return ids;
+    }
+
+    private String tableFieldsToString(List<String> fieldsNames) {
+        return String.join(",", fieldsNames);
     }
 }
@@ -1,22 +1,24 @@
 package io.quarkus.ts.vertx.sql.services;
 
-import static io.quarkus.ts.vertx.sql.domain.PricingRules.daysToDepartureFilter;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.ts.vertx.sql.domain.Airline;
 import io.quarkus.ts.vertx.sql.domain.Basket;
 import io.quarkus.ts.vertx.sql.domain.Flight;
 import io.quarkus.ts.vertx.sql.domain.PricingRules;
 import io.quarkus.ts.vertx.sql.domain.QueryFlightSearch;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 @Singleton
@@ -26,42 +28,69 @@ public class FlightSearchService {
     @Named("sqlClient")
     DbPoolService connection;
 
-    Map<String, Airline> airlines;
-    List<PricingRules> pricingRules;
+    @ConfigProperty(name = "app.flights.stream.fetch-size", defaultValue = "50")
+    int streamFetchSize;
+
+    /**
+     * Airlines and pricing rules are swapped together, so a search never mixes data from two different reloads.
+     */
+    private final AtomicReference<PricingCatalog> catalog = new AtomicReference<>(PricingCatalog.EMPTY);
 
     void onStart(@Observes StartupEvent ev) {
-        Airline.findAirlineAsMap(connection).subscribe().with(airlines -> this.airlines = airlines);
-        PricingRules.findAllAsList(connection).subscribe().with(pricing -> this.pricingRules = pricing);
+        refresh().subscribe().with(ignored -> {
+        });
+    }
+
+    public Uni<Void> refresh() {
+        return Uni.combine().all()
+                .unis(Airline.findAirlineAsMap(connection), PricingRules.findAllAsList(connection))
+                .asTuple()
+                .onItem().invoke(tuple -> catalog.set(new PricingCatalog(tuple.getItem1(),
+                        PricingRulesIndex.of(tuple.getItem2()))))
+                .replaceWithVoid();
+    }
+
+    public int pricingRulesAmount() {
+        return catalog.get().pricingRules().size();
     }
 
     public Uni<List<Basket>> search(QueryFlightSearch query) {
         return Flight.findByOriginDestination(connection, query.from, query.to)
                 .onItem()
-                .transform(flight -> calculatePrice(query, flight))
+                .transform(flight -> calculatePrice(catalog.get(), query, flight))
                 .collect().in(ArrayList::new, List::add);
     }
 
-    private Basket calculatePrice(QueryFlightSearch query, Flight flight) {
-        double adultPrice = query.adult * adultPrice(flight, query.daysToDeparture);
-        double childPrice = query.child * childPrice(flight, query.daysToDeparture);
-        double infantPrice = query.infant * infantPrice(flight);
-
-        return new Basket(flight.getFlightCode(), adultPrice + childPrice + infantPrice);
+    /**
+     * Same as {@link #search(QueryFlightSearch)}, but baskets are priced and emitted while rows are read from the database.
+     */
+    public Multi<Basket> searchAsStream(QueryFlightSearch query) {
+        PricingCatalog current = catalog.get();
+        return Flight.streamByOriginDestination(connection, query.from, query.to, streamFetchSize)
+                .onItem().transform(flight -> calculatePrice(current, query, flight));
     }
 
-    private Double infantPrice(Flight flight) {
-        return airlines.get(Airline.codeFromFlight(flight.getFlightCode())).getInfantPrice();
+    private Basket calculatePrice(PricingCatalog current, QueryFlightSearch query, Flight flight) {
+        double adultUnitPrice = adultPrice(current, flight, query.daysToDeparture);
+        double adultPrice = query.adult * adultUnitPrice;
+        double childPrice = query.child * PricingRules.applyChildPercentage(adultUnitPrice);
+        double infantPrice = query.infant * infantPrice(current, flight);
+
+        return new Basket(flight.getFlightCode(), adultPrice + childPrice + infantPrice);
     }
 
-    private Double childPrice(Flight flight, int dayToDeparture) {
-        return PricingRules.applyChildPercentage(adultPrice(flight, dayToDeparture));
+    private double infantPrice(PricingCatalog current, Flight flight) {
+        return current.airlines().get(Airline.codeFromFlight(flight.getFlightCode())).getInfantPrice();
     }
 
-    private Double adultPrice(Flight flight, int dayToDeparture) {
-        PricingRules pricingRule = pricingRules.stream()
-                .filter(daysToDepartureFilter(dayToDeparture))
-                .findFirst().orElseThrow(() -> new RuntimeException("Unknown PricingRule."));
+    private double adultPrice(PricingCatalog current, Flight flight, int dayToDeparture) {
+        PricingRules pricingRule = current.pricingRules().find(dayToDeparture)
+                .orElseThrow(() -> new RuntimeException("Unknown PricingRule."));
 
         return pricingRule.applyAdultPercentage(flight.getPrice());
     }
+
+    private record PricingCatalog(Map<String, Airline> airlines, PricingRulesIndex pricingRules) {
+        private static final PricingCatalog EMPTY = new PricingCatalog(Map.of(), PricingRulesIndex.of(List.of()));
+    }
 }
@@ -0,0 +1,74 @@
+package io.quarkus.ts.vertx.sql.services;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.ts.vertx.sql.domain.PricingRules;
+
+/**
+ * Immutable interval index over pricing rules. Rules are sorted by `days_to_departure` and looked up with a binary
+ * search, so the resolved rule is the same one {@link PricingRules#daysToDepartureFilter(int)} would find first on a
+ * list sorted the same way.
+ */
+public final class PricingRulesIndex {
+
+    private final PricingRules[] rules;
+    private final int[] from;
+    /**
+     * Running maximum of `until`, which makes it non-decreasing and searchable even if some intervals overlap.
+     */
+    private final int[] maxTo;
+
+    private PricingRulesIndex(PricingRules[] rules) {
+        this.rules = rules;
+        this.from = new int[rules.length];
+        this.maxTo = new int[rules.length];
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < rules.length; i++) {
+            from[i] = rules[i].getFrom();
+            max = Math.max(max, rules[i].getTo());
+            maxTo[i] = max;
+        }
+    }
+
+    public static PricingRulesIndex of(List<PricingRules> pricingRules) {
+        PricingRules[] sorted = pricingRules.stream()
+                .sorted(Comparator.comparingInt(PricingRules::getFrom))
+                .toArray(PricingRules[]::new);
+        return new PricingRulesIndex(sorted);
+    }
+
+    public Optional<PricingRules> find(int dayToDeparture) {
+        int index = firstReaching(dayToDeparture);
+        if (index < 0 || from[index] > dayToDeparture + 1) {
+            return Optional.empty();
+        }
+
+        return Optional.of(rules[index]);
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    /**
+     * @return the lowest index whose `until` is greater or equal than the given day, or -1 if there is none
+     */
+    private int firstReaching(int dayToDeparture) {
+        int low = 0;
+        int high = maxTo.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (maxTo[mid] >= dayToDeparture) {
+                found = mid;
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return found;
+    }
+}
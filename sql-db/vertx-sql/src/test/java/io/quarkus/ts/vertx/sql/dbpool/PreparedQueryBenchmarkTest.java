@@ -0,0 +1,93 @@
+package io.quarkus.ts.vertx.sql.dbpool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.scenarios.annotations.EnabledWhenLinuxContainersAvailable;
+import io.quarkus.ts.vertx.sql.services.DbPoolService;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+/**
+ * Compares the same fixed flight lookup sent as a string-built query and as a cached prepared statement. Both run
+ * in-process against the pool, so the string-built variant is never reachable through the HTTP routes.
+ */
+@EnabledWhenLinuxContainersAvailable
+@QuarkusTest
+@TestProfile(PostgresqlTestProfile.class)
+public class PreparedQueryBenchmarkTest {
+
+    private static final Logger LOG = Logger.getLogger(PreparedQueryBenchmarkTest.class);
+    private static final int LOOKUPS = 2_000;
+    private static final String ORIGIN = "MAD";
+    private static final String DESTINATION = "CDG";
+    /**
+     * Both lookups take one round trip, the prepared one only saves the parsing, so it must not be noticeably slower.
+     */
+    private static final double TOLERANCE = 1.1;
+
+    @Inject
+    @Named("sqlClient")
+    DbPoolService connection;
+
+    @Test
+    public void preparedLookupIsNotSlowerThanStringBuiltOne() {
+        String table = connection.getTableName("flights");
+        String inlined = String.format("SELECT * FROM %s where origin = '%s' and destination = '%s'",
+                table, ORIGIN, DESTINATION);
+        String prepared = "SELECT * FROM " + table + " where origin = " + connection.placeholder(1)
+                + " and destination = " + connection.placeholder(2);
+        Tuple params = Tuple.of(ORIGIN, DESTINATION);
+        Supplier<Uni<RowSet<Row>>> inlinedLookup = () -> connection.query(inlined).execute();
+        Supplier<Uni<RowSet<Row>>> preparedLookup = () -> connection.preparedQuery(prepared).execute(params);
+
+        List<Long> expectedIds = ids(inlinedLookup.get().await().indefinitely());
+        assertFalse(expectedIds.isEmpty(), "No flight found from " + ORIGIN + " to " + DESTINATION);
+        assertEquals(expectedIds, ids(preparedLookup.get().await().indefinitely()));
+
+        // warm up both paths before measuring them
+        measure(inlinedLookup);
+        measure(preparedLookup);
+        long inlinedNanos = measure(inlinedLookup);
+        long preparedNanos = measure(preparedLookup);
+        LOG.infof("Flight lookup throughput over %d queries: string-built %.0f q/s, prepared %.0f q/s",
+                LOOKUPS, perSecond(inlinedNanos), perSecond(preparedNanos));
+
+        assertTrue(preparedNanos <= inlinedNanos * TOLERANCE,
+                "Prepared lookups (" + preparedNanos + " ns) should not be slower than string-built ones ("
+                        + inlinedNanos + " ns)");
+    }
+
+    private static long measure(Supplier<Uni<RowSet<Row>>> lookup) {
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookup.get().await().indefinitely();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<Long> ids(RowSet<Row> rows) {
+        List<Long> ids = new ArrayList<>();
+        rows.forEach(row -> ids.add(row.getLong("id")));
+        return ids;
+    }
+
+    private static double perSecond(long nanos) {
+        return LOOKUPS / (nanos / 1_000_000_000d);
+    }
+}
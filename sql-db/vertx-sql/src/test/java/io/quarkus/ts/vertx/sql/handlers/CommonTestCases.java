@@ -15,6 +15,7 @@ public abstract class CommonTestCases implements
     @Test
     public void pricingRuleScenario() {
         retrieveAllPricingRules();
+        refreshPricingRules();
     }
 
     @Test
@@ -27,11 +28,25 @@ public abstract class CommonTestCases implements
         retrieveFlightPrices();
         retrieveMultiplesFlightPrices();
         wrongFlightSearchFormat();
+        refreshPricingRules();
+        retrieveMultiplesFlightPrices();
+    }
+
+    @Test
+    public void streamedFlightScenario() {
+        retrieveStreamedFlightPrices();
+        wrongStreamedFlightSearchFormat();
+    }
+
+    @Test
+    public void preparedQueryScenario() {
+        preparedQueryBindsParameters();
     }
 
     @Test
     public void basketScenario() {
         basketCheckout();
+        basketBatchCheckout();
         wrongBasketFormatCheckout();
     }
 
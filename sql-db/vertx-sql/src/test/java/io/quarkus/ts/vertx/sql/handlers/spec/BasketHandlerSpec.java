@@ -2,14 +2,23 @@ package io.quarkus.ts.vertx.sql.handlers.spec;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.ts.vertx.sql.domain.Address;
 import io.quarkus.ts.vertx.sql.domain.Basket;
 import io.quarkus.ts.vertx.sql.domain.Passenger;
+import io.quarkus.ts.vertx.sql.domain.Record;
 import io.restassured.http.ContentType;
 
 public interface BasketHandlerSpec {
+    int BATCH_SIZE = 50;
+
     default void basketCheckout() {
         Basket basket = new Basket();
         basket.setBillingPassenger(defaultPassenger());
@@ -24,6 +33,26 @@ public interface BasketHandlerSpec {
                 .assertThat().body("isEmpty()", is(false));
     }
 
+    default void basketBatchCheckout() {
+        List<Basket> baskets = IntStream.range(0, BATCH_SIZE).mapToObj(i -> {
+            Basket basket = new Basket();
+            basket.setBillingPassenger(defaultPassenger());
+            basket.setFlight("IB9961");
+            basket.setPrice(437.52);
+            return basket;
+        }).collect(Collectors.toList());
+
+        Record[] ids = given().accept(ContentType.JSON).body(baskets)
+                .when()
+                .post("/basket/checkout/batch")
+                .then()
+                .statusCode(HttpResponseStatus.CREATED.code())
+                .assertThat().body("size()", is(BATCH_SIZE))
+                .extract().as(Record[].class);
+
+        assertEquals(BATCH_SIZE, Arrays.stream(ids).map(Record::getId).distinct().count(), "Basket ids must be unique");
+    }
+
     default void wrongBasketFormatCheckout() {
         Basket basket = new Basket();
         basket.setBillingPassenger(defaultPassenger());
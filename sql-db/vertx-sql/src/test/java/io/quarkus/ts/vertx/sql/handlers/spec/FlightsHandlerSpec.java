@@ -1,20 +1,26 @@
 package io.quarkus.ts.vertx.sql.handlers.spec;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.ts.vertx.sql.domain.Basket;
 import io.quarkus.ts.vertx.sql.domain.Flight;
 import io.quarkus.ts.vertx.sql.domain.QueryFlightSearch;
 import io.restassured.http.ContentType;
+import io.vertx.core.json.Json;
 
 public interface FlightsHandlerSpec {
     default void retrieveAllFlights() {
@@ -40,6 +46,25 @@ public interface FlightsHandlerSpec {
                 hasProperty("destination", is("CDG"))));
     }
 
+    default void preparedQueryBindsParameters() {
+        // the same statement is reused with different bound values
+        assertFlightsBetween("MAD", "CDG");
+        assertFlightsBetween("MAD", "BCN");
+
+        // values are bound, never spliced into the SQL text
+        String injected = "' OR '1'='1";
+        List<Flight> flights = Arrays.asList(retrieveFlights("/flights/origin/MAD" + injected + "/destination/CDG" + injected));
+        assertThat(flights, is(empty()));
+    }
+
+    private void assertFlightsBetween(String origin, String destination) {
+        List<Flight> flights = Arrays.asList(retrieveFlights("/flights/origin/" + origin + "/destination/" + destination));
+        assertThat(flights, is(not(empty())));
+        assertThat(flights, everyItem(allOf(
+                hasProperty("origin", is(origin)),
+                hasProperty("destination", is(destination)))));
+    }
+
     default void retrieveInfantFlightPrices() {
         QueryFlightSearch query = QueryFlightSearch.Builder.newInstance()
                 .withInfant(1)
@@ -103,14 +128,7 @@ public interface FlightsHandlerSpec {
     }
 
     default void retrieveMultiplesFlightPrices() {
-        QueryFlightSearch query = QueryFlightSearch.Builder.newInstance()
-                .withAdult(2)
-                .withChild(2)
-                .withInfant(1)
-                .withDaysToDeparture(30)
-                .withFrom("MAD")
-                .withTo("CDG")
-                .build();
+        QueryFlightSearch query = multipleFlightsQuery();
 
         List<Basket> expectedBasket = Arrays.asList(
                 new Basket("IB9961", 437.52),
@@ -121,6 +139,51 @@ public interface FlightsHandlerSpec {
         assertEquals(basket, expectedBasket);
     }
 
+    default void retrieveStreamedFlightPrices() {
+        QueryFlightSearch query = multipleFlightsQuery();
+        List<Basket> expectedBasket = thenMakeFlightSearchQuery(query, HttpResponseStatus.OK.code(), 3);
+
+        List<Basket> streamedBasket = Arrays.asList(given().accept(ContentType.JSON)
+                .body(query.toJsonStringify())
+                .when()
+                .put("/flights/search/stream")
+                .then()
+                .statusCode(HttpResponseStatus.OK.code())
+                .header("Transfer-Encoding", "chunked")
+                .extract().as(Basket[].class));
+        assertEquals(expectedBasket, streamedBasket);
+
+        String ndjson = given().accept("application/x-ndjson")
+                .contentType(ContentType.JSON)
+                .body(query.toJsonStringify())
+                .when()
+                .put("/flights/search/ndjson")
+                .then()
+                .statusCode(HttpResponseStatus.OK.code())
+                .extract().asString();
+        List<Basket> ndjsonBasket = ndjson.lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> Json.decodeValue(line, Basket.class))
+                .collect(Collectors.toList());
+        assertEquals(expectedBasket, ndjsonBasket);
+    }
+
+    default void wrongStreamedFlightSearchFormat() {
+        QueryFlightSearch query = QueryFlightSearch.Builder.newInstance()
+                .withInfant(1)
+                .withDaysToDeparture(-1)
+                .withFrom("MAD")
+                .withTo("BCN")
+                .build();
+
+        given().accept(ContentType.JSON)
+                .body(query.toJsonStringify())
+                .when()
+                .put("/flights/search/stream")
+                .then()
+                .statusCode(HttpResponseStatus.BAD_REQUEST.code());
+    }
+
     default void wrongFlightSearchFormat() {
         QueryFlightSearch query = QueryFlightSearch.Builder.newInstance()
                 .withInfant(1)
@@ -137,6 +200,26 @@ public interface FlightsHandlerSpec {
                 .statusCode(HttpResponseStatus.BAD_REQUEST.code());
     }
 
+    private QueryFlightSearch multipleFlightsQuery() {
+        return QueryFlightSearch.Builder.newInstance()
+                .withAdult(2)
+                .withChild(2)
+                .withInfant(1)
+                .withDaysToDeparture(30)
+                .withFrom("MAD")
+                .withTo("CDG")
+                .build();
+    }
+
+    private Flight[] retrieveFlights(String path) {
+        return given().accept(ContentType.JSON)
+                .when()
+                .get(path)
+                .then()
+                .statusCode(HttpResponseStatus.OK.code())
+                .extract().as(Flight[].class);
+    }
+
     default List<Basket> thenMakeFlightSearchQuery(QueryFlightSearch query, int expectedStatus, int expectedAmount) {
         return Arrays.asList(given().accept(ContentType.JSON)
                 .body(query.toJsonStringify())
@@ -15,4 +15,13 @@ public interface PricingRulesSpec {
                 .statusCode(HttpResponseStatus.OK.code())
                 .assertThat().body("size()", is(4));
     }
+
+    default void refreshPricingRules() {
+        given().accept(ContentType.JSON)
+                .when()
+                .post("/pricingRules/refresh")
+                .then()
+                .statusCode(HttpResponseStatus.OK.code())
+                .assertThat().body("pricingRules", is(4));
+    }
 }
@@ -0,0 +1,99 @@
+package io.quarkus.ts.vertx.sql.services;
+
+import static io.quarkus.ts.vertx.sql.domain.PricingRules.daysToDepartureFilter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.ts.vertx.sql.domain.PricingRules;
+
+public class PricingRulesIndexTest {
+
+    private static final Logger LOG = Logger.getLogger(PricingRulesIndexTest.class);
+
+    private static final int RULES = 10_000;
+    private static final int DAYS_PER_RULE = 3;
+    private static final int LOOKUPS = 20_000;
+    private static final int WARM_UP_ROUNDS = 3;
+
+    @Test
+    public void defaultPricingRules() {
+        List<PricingRules> rules = List.of(
+                new PricingRules(1, 0, 2, 150),
+                new PricingRules(2, 3, 15, 120),
+                new PricingRules(3, 16, 30, 100),
+                new PricingRules(4, 31, 365, 80));
+        PricingRulesIndex index = PricingRulesIndex.of(rules);
+
+        for (int day = 0; day <= 366; day++) {
+            assertEquals(linearLookup(rules, day), index.find(day), "Unexpected pricing rule for day " + day);
+        }
+        assertEquals(150, index.find(2).orElseThrow().getPercentage());
+        assertEquals(100, index.find(30).orElseThrow().getPercentage());
+        assertTrue(index.find(400).isEmpty());
+    }
+
+    @Test
+    public void unsortedAndOverlappingPricingRules() {
+        List<PricingRules> rules = List.of(
+                new PricingRules(1, 31, 365, 80),
+                new PricingRules(2, 10, 40, 90),
+                new PricingRules(3, 0, 5, 150),
+                new PricingRules(4, 3, 15, 120));
+        List<PricingRules> sortedRules = rules.stream()
+                .sorted((a, b) -> Integer.compare(a.getFrom(), b.getFrom()))
+                .toList();
+        PricingRulesIndex index = PricingRulesIndex.of(rules);
+
+        for (int day = 0; day <= 366; day++) {
+            assertEquals(linearLookup(sortedRules, day), index.find(day), "Unexpected pricing rule for day " + day);
+        }
+    }
+
+    @Test
+    public void indexedLookupIsFasterThanLinearScan() {
+        List<PricingRules> rules = new ArrayList<>(RULES);
+        for (int i = 0; i < RULES; i++) {
+            rules.add(new PricingRules(i, i * DAYS_PER_RULE, i * DAYS_PER_RULE + DAYS_PER_RULE - 1, 50 + i % 100));
+        }
+        PricingRulesIndex index = PricingRulesIndex.of(rules);
+        int maxDay = RULES * DAYS_PER_RULE;
+
+        for (int day = 0; day < maxDay; day += 7) {
+            assertEquals(linearLookup(rules, day), index.find(day));
+        }
+
+        long linearNanos = measure(day -> linearLookup(rules, day), maxDay);
+        long indexedNanos = measure(index::find, maxDay);
+        LOG.infof("Pricing rule lookup over %d rules: linear scan %d ns/op, interval index %d ns/op",
+                RULES, linearNanos / LOOKUPS, indexedNanos / LOOKUPS);
+
+        assertTrue(indexedNanos < linearNanos,
+                "Interval index (" + indexedNanos + " ns) should be faster than linear scan (" + linearNanos + " ns)");
+    }
+
+    private static long measure(IntFunction<Optional<PricingRules>> lookup, int maxDay) {
+        long elapsed = 0;
+        long checksum = 0;
+        for (int round = 0; round <= WARM_UP_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                checksum += lookup.apply((i * 31) % maxDay).map(PricingRules::getPercentage).orElse(0);
+            }
+            elapsed = System.nanoTime() - start;
+        }
+        assertTrue(checksum > 0);
+        return elapsed;
+    }
+
+    private static Optional<PricingRules> linearLookup(List<PricingRules> rules, int day) {
+        return rules.stream().filter(daysToDepartureFilter(day)).findFirst();
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.ts.websockets.producer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fans a message out to the outbox of every registered session. The same immutable message instance is handed to
+ * every outbox, so the broadcast itself never copies or encodes it and never waits for any client.
+ */
+public class Broadcaster {
+
+    private final Map<String, SessionOutbox> outboxes = new ConcurrentHashMap<>();
+    private final int queueSize;
+    private final SessionOutbox.SlowConsumerPolicy policy;
+
+    public Broadcaster(int queueSize, SessionOutbox.SlowConsumerPolicy policy) {
+        this.queueSize = queueSize;
+        this.policy = policy;
+    }
+
+    public void register(String id, SessionOutbox.Sender sender) {
+        SessionOutbox previous = outboxes.put(id, new SessionOutbox(id, sender, queueSize, policy));
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    public void unregister(String id) {
+        SessionOutbox outbox = outboxes.remove(id);
+        if (outbox != null) {
+            outbox.close();
+        }
+    }
+
+    public void broadcast(String message) {
+        outboxes.values().forEach(outbox -> outbox.enqueue(message));
+    }
+
+    public int sessions() {
+        return outboxes.size();
+    }
+
+    public long dropped() {
+        return outboxes.values().stream().mapToLong(SessionOutbox::dropped).sum();
+    }
+}
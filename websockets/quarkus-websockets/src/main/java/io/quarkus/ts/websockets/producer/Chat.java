@@ -1,8 +1,6 @@
 package io.quarkus.ts.websockets.producer;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.websocket.OnClose;
 import jakarta.websocket.OnError;
@@ -12,6 +10,7 @@ import jakarta.websocket.Session;
 import jakarta.websocket.server.PathParam;
 import jakarta.websocket.server.ServerEndpoint;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
 @ServerEndpoint("/chat/{username}")
@@ -20,22 +19,33 @@ public class Chat {
 
     private static final Logger LOG = Logger.getLogger(Chat.class);
 
-    Map<String, Session> sessions = new ConcurrentHashMap<>();
+    @ConfigProperty(name = "app.chat.outbound-queue-size", defaultValue = "256")
+    int outboundQueueSize;
+
+    @ConfigProperty(name = "app.chat.slow-consumer-policy", defaultValue = "drop-oldest")
+    SessionOutbox.SlowConsumerPolicy slowConsumerPolicy;
+
+    Broadcaster broadcaster;
+
+    @PostConstruct
+    void init() {
+        broadcaster = new Broadcaster(outboundQueueSize, slowConsumerPolicy);
+    }
 
     @OnOpen
     public void onOpen(Session session, @PathParam("username") String username) {
-        sessions.put(username, session);
+        broadcaster.register(username, SessionOutbox.Sender.of(session));
     }
 
     @OnClose
     public void onClose(Session session, @PathParam("username") String username) {
-        sessions.remove(username);
+        broadcaster.unregister(username);
         broadcast("User " + username + " left");
     }
 
     @OnError
     public void onError(Session session, @PathParam("username") String username, Throwable throwable) {
-        sessions.remove(username);
+        broadcaster.unregister(username);
         LOG.error("onError", throwable);
         broadcast("User " + username + " left on error: " + throwable);
     }
@@ -50,10 +60,6 @@ public class Chat {
     }
 
     private void broadcast(String message) {
-        sessions.values().forEach(s -> s.getAsyncRemote().sendObject(message, result -> {
-            if (result.getException() != null) {
-                LOG.error("Unable to send message: " + result.getException());
-            }
-        }));
+        broadcaster.broadcast(message);
     }
 }
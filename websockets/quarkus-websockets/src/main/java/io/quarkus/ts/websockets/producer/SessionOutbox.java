@@ -0,0 +1,136 @@
+package io.quarkus.ts.websockets.producer;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.Session;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Bounded outbound queue of a single websocket session. Only one message per session is in flight at a time, so a
+ * slow client only fills its own queue; once the queue is full the {@link SlowConsumerPolicy} decides what happens.
+ */
+public final class SessionOutbox {
+
+    private static final Logger LOG = Logger.getLogger(SessionOutbox.class);
+
+    public enum SlowConsumerPolicy {
+        /**
+         * Drop the oldest queued message to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Close the session of the client that can't keep up.
+         */
+        DISCONNECT
+    }
+
+    /**
+     * Where the messages of the outbox end up, usually the async remote of a websocket session.
+     */
+    public interface Sender {
+
+        void send(String message, SendHandler handler);
+
+        void close(CloseReason reason) throws IOException;
+
+        static Sender of(Session session) {
+            return new Sender() {
+                @Override
+                public void send(String message, SendHandler handler) {
+                    session.getAsyncRemote().sendText(message, handler);
+                }
+
+                @Override
+                public void close(CloseReason reason) throws IOException {
+                    session.close(reason);
+                }
+            };
+        }
+    }
+
+    private final String id;
+    private final Sender sender;
+    private final SlowConsumerPolicy policy;
+    private final BlockingQueue<String> queue;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public SessionOutbox(String id, Sender sender, int capacity, SlowConsumerPolicy policy) {
+        this.id = id;
+        this.sender = sender;
+        this.policy = policy;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * @return false if the message was not queued because the outbox is closed or its client was disconnected
+     */
+    public boolean enqueue(String message) {
+        if (closed.get()) {
+            return false;
+        }
+        while (!queue.offer(message)) {
+            if (policy == SlowConsumerPolicy.DISCONNECT) {
+                disconnect();
+                return false;
+            }
+            if (queue.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+        drain();
+        return true;
+    }
+
+    public void close() {
+        closed.set(true);
+        queue.clear();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty() && sending.compareAndSet(false, true)) {
+            String message = queue.poll();
+            if (message == null) {
+                // another thread drained the queue meanwhile, release and check again
+                sending.set(false);
+                continue;
+            }
+            sender.send(message, result -> {
+                if (result.getException() != null) {
+                    LOG.error("Unable to send message: " + result.getException());
+                }
+                sending.set(false);
+                drain();
+            });
+            return;
+        }
+    }
+
+    private void disconnect() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            LOG.warnf("Disconnecting session %s, its outbound queue is full", id);
+            try {
+                sender.close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "Outbound queue is full"));
+            } catch (IOException e) {
+                LOG.error("Unable to close session " + id, e);
+            }
+        }
+    }
+}
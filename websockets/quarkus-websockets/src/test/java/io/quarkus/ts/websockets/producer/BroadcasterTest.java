@@ -0,0 +1,132 @@
+package io.quarkus.ts.websockets.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.SendHandler;
+import jakarta.websocket.SendResult;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BroadcasterTest {
+
+    private static final Logger LOG = Logger.getLogger(BroadcasterTest.class);
+
+    private static final int FAST_SESSIONS = 10_000;
+    private static final int SLOW_SESSIONS = 100;
+    private static final int QUEUE_SIZE = 16;
+    private static final int ROUNDS = 50;
+    private static final long MAX_P99_MILLIS = 2_000;
+
+    private ExecutorService network;
+    private CountDownLatch[] delivered;
+
+    @BeforeEach
+    public void setUp() {
+        network = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        delivered = IntStream.range(0, ROUNDS).mapToObj(i -> new CountDownLatch(FAST_SESSIONS))
+                .toArray(CountDownLatch[]::new);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        network.shutdownNow();
+    }
+
+    @Test
+    public void slowConsumersDoNotDelayBroadcast() throws InterruptedException {
+        Broadcaster broadcaster = new Broadcaster(QUEUE_SIZE, SessionOutbox.SlowConsumerPolicy.DROP_OLDEST);
+        IntStream.range(0, FAST_SESSIONS).forEach(i -> broadcaster.register("fast" + i, new FastSender()));
+        List<StalledSender> slowSenders = IntStream.range(0, SLOW_SESSIONS).mapToObj(i -> new StalledSender()).toList();
+        IntStream.range(0, SLOW_SESSIONS).forEach(i -> broadcaster.register("slow" + i, slowSenders.get(i)));
+
+        long[] latencies = broadcastAllRounds(broadcaster);
+        Arrays.sort(latencies);
+        long p50 = TimeUnit.NANOSECONDS.toMillis(latencies[ROUNDS / 2]);
+        long p99 = TimeUnit.NANOSECONDS.toMillis(latencies[ROUNDS * 99 / 100]);
+        LOG.infof("Broadcast to %d sessions (%d stalled): p50 %d ms, p99 %d ms",
+                FAST_SESSIONS + SLOW_SESSIONS, SLOW_SESSIONS, p50, p99);
+
+        assertTrue(p99 < MAX_P99_MILLIS, "Broadcast p99 latency was " + p99 + " ms");
+        // each stalled session holds one message in flight and a full queue, everything else is dropped
+        assertEquals((long) SLOW_SESSIONS * (ROUNDS - 1 - QUEUE_SIZE), broadcaster.dropped());
+        assertTrue(slowSenders.stream().allMatch(sender -> sender.sent.get() == 1));
+        assertEquals(FAST_SESSIONS + SLOW_SESSIONS, broadcaster.sessions());
+    }
+
+    @Test
+    public void slowConsumersAreDisconnected() throws InterruptedException {
+        Broadcaster broadcaster = new Broadcaster(QUEUE_SIZE, SessionOutbox.SlowConsumerPolicy.DISCONNECT);
+        IntStream.range(0, FAST_SESSIONS).forEach(i -> broadcaster.register("fast" + i, new FastSender()));
+        List<StalledSender> slowSenders = IntStream.range(0, SLOW_SESSIONS).mapToObj(i -> new StalledSender()).toList();
+        IntStream.range(0, SLOW_SESSIONS).forEach(i -> broadcaster.register("slow" + i, slowSenders.get(i)));
+
+        broadcastAllRounds(broadcaster);
+
+        assertTrue(slowSenders.stream().allMatch(sender -> sender.closeReason != null),
+                "Every stalled session should have been disconnected");
+        assertEquals(CloseReason.CloseCodes.TRY_AGAIN_LATER, slowSenders.get(0).closeReason.getCloseCode());
+        assertEquals(0, broadcaster.dropped());
+    }
+
+    private long[] broadcastAllRounds(Broadcaster broadcaster) throws InterruptedException {
+        long[] latencies = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            broadcaster.broadcast(String.valueOf(round));
+            assertTrue(delivered[round].await(30, TimeUnit.SECONDS), "Round " + round + " was not delivered");
+            latencies[round] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    /**
+     * Completes every send asynchronously, like a client reading as fast as the network allows.
+     */
+    private class FastSender implements SessionOutbox.Sender {
+
+        @Override
+        public void send(String message, SendHandler handler) {
+            network.execute(() -> {
+                delivered[Integer.parseInt(message)].countDown();
+                handler.onResult(new SendResult());
+            });
+        }
+
+        @Override
+        public void close(CloseReason reason) {
+        }
+    }
+
+    /**
+     * Never completes a send, like a client that stopped reading.
+     */
+    private static class StalledSender implements SessionOutbox.Sender {
+
+        private final AtomicInteger sent = new AtomicInteger();
+        private volatile CloseReason closeReason;
+
+        @Override
+        public void send(String message, SendHandler handler) {
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void close(CloseReason reason) {
+            closeReason = reason;
+        }
+    }
+}